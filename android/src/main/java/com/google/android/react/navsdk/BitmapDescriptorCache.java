@@ -0,0 +1,85 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.util.LruCache;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide LRU cache of {@link BitmapDescriptor}s used for marker and ground overlay images,
+ * shared by all map views including Android Auto. Reusing the same descriptor avoids loading the
+ * same asset again for every overlay that uses it.
+ */
+public class BitmapDescriptorCache {
+  public static final int DEFAULT_MAX_ENTRIES = 128;
+
+  private static final String ASSET_KEY_PREFIX = "asset:";
+
+  private static final LruCache<String, BitmapDescriptor> sCache =
+      new LruCache<String, BitmapDescriptor>(DEFAULT_MAX_ENTRIES) {
+        @Override
+        protected BitmapDescriptor create(String key) {
+          if (key.startsWith(ASSET_KEY_PREFIX)) {
+            return BitmapDescriptorFactory.fromAsset(key.substring(ASSET_KEY_PREFIX.length()));
+          }
+          return null;
+        }
+      };
+
+  private BitmapDescriptorCache() {}
+
+  /** Returns the descriptor for an image in the app's assets, loading it on a cache miss. */
+  public static BitmapDescriptor fromAsset(String assetPath) {
+    return sCache.get(ASSET_KEY_PREFIX + assetPath);
+  }
+
+  /**
+   * Returns the descriptor cached under {@code key}, creating it with {@code factory} on a cache
+   * miss. A null descriptor is returned but not cached. Keys must not start with the prefixes used
+   * for asset descriptors.
+   */
+  public static BitmapDescriptor getOrCreate(String key, Supplier<BitmapDescriptor> factory) {
+    BitmapDescriptor descriptor = sCache.get(key);
+    if (descriptor == null) {
+      descriptor = factory.get();
+      // LruCache does not accept null values.
+      if (descriptor != null) {
+        sCache.put(key, descriptor);
+      }
+    }
+    return descriptor;
+  }
+
+  public static void setMaxEntries(int maxEntries) {
+    sCache.resize(Math.max(1, maxEntries));
+  }
+
+  public static void clear() {
+    sCache.evictAll();
+  }
+
+  public static int hitCount() {
+    return sCache.hitCount();
+  }
+
+  public static int missCount() {
+    return sCache.missCount();
+  }
+
+  public static int size() {
+    return sCache.size();
+  }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.SystemClock;
+import android.view.Choreographer;
+import com.facebook.react.bridge.UiThreadUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Applies an operation to a list of items on the UI thread in slices that fit in a frame budget.
+ * Remaining items are processed on the following frames so long batches do not block rendering.
+ */
+public class ChunkedUiTask<T, R> {
+  /** Time spent per frame processing items, leaving room for rendering within a 60Hz frame. */
+  public static final long DEFAULT_FRAME_BUDGET_MS = 8;
+
+  public interface Callback<R> {
+    /** Called on the UI thread with one result per item, in the order of the items. */
+    void onComplete(List<R> results);
+  }
+
+  private final List<T> mItems;
+  private final Function<T, R> mOperation;
+  private final Callback<R> mCallback;
+  private final long mFrameBudgetMs;
+  private final List<R> mResults;
+  private int mNextIndex = 0;
+
+  private final Choreographer.FrameCallback mFrameCallback = frameTimeNanos -> runSlice();
+
+  private ChunkedUiTask(
+      List<T> items, Function<T, R> operation, Callback<R> callback, long frameBudgetMs) {
+    mItems = items;
+    mOperation = operation;
+    mCallback = callback;
+    mFrameBudgetMs = frameBudgetMs;
+    mResults = new ArrayList<>(items.size());
+  }
+
+  /**
+   * Starts processing {@code items}. May be called from any thread.
+   *
+   * @param operation applied to each item on the UI thread. Its result may be null.
+   * @param callback called on the UI thread once all items have been processed.
+   */
+  public static <T, R> void run(List<T> items, Function<T, R> operation, Callback<R> callback) {
+    ChunkedUiTask<T, R> task =
+        new ChunkedUiTask<>(items, operation, callback, DEFAULT_FRAME_BUDGET_MS);
+    UiThreadUtil.runOnUiThread(task::runSlice);
+  }
+
+  private void runSlice() {
+    long deadline = SystemClock.uptimeMillis() + mFrameBudgetMs;
+    // At least one item is processed per frame so progress is made even on slow devices.
+    while (mNextIndex < mItems.size()) {
+      mResults.add(mOperation.apply(mItems.get(mNextIndex++)));
+      if (mNextIndex < mItems.size() && SystemClock.uptimeMillis() >= deadline) {
+        Choreographer.getInstance().postFrameCallback(mFrameCallback);
+        return;
+      }
+    }
+    mCallback.onComplete(mResults);
+  }
+}
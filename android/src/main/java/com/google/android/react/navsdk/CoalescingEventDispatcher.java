@@ -0,0 +1,224 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Buffers events sent to React Native and delivers them as a single batched emission once per frame
+ * or once per configured interval.
+ *
+ * <p>State-like events (for example location or remaining time updates) keep a single "latest value
+ * wins" slot, so only the most recent value is delivered per flush. A slot moves to the end of the
+ * batch whenever its value is replaced, so every event in a batch is delivered after the events
+ * dispatched before it. All other events are discrete and are delivered in the order they were
+ * dispatched.
+ *
+ * <p>When disabled, every event is forwarded to the emitter immediately.
+ */
+public class CoalescingEventDispatcher {
+  /** Name of the event used to deliver a batch of buffered events to React Native. */
+  public static final String BATCH_EVENT_NAME = "onNavigationEventBatch";
+
+  public static final String BATCH_EVENT_NAME_KEY = "name";
+  public static final String BATCH_EVENT_DATA_KEY = "data";
+
+  /** Events for which only the latest value is relevant, unless configured otherwise. */
+  private static final Set<String> DEFAULT_COALESCED_EVENTS =
+      new HashSet<>(
+          Arrays.asList(
+              "onRemainingTimeOrDistanceChanged",
+              "onTrafficUpdated",
+              "onLocationChanged",
+              "onRawLocationChanged",
+              "onTurnByTurn"));
+
+  public interface Emitter {
+    void emit(String eventName, @Nullable Object params);
+  }
+
+  private static final class PendingEvent {
+    final String name;
+    @Nullable Object params;
+
+    PendingEvent(String name, @Nullable Object params) {
+      this.name = name;
+      this.params = params;
+    }
+  }
+
+  private final Emitter mEmitter;
+  private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+  private final List<PendingEvent> mQueue = new ArrayList<>();
+  private final HashMap<String, PendingEvent> mCoalescedSlots = new HashMap<>();
+  private final Set<String> mCoalescedEvents = new HashSet<>(DEFAULT_COALESCED_EVENTS);
+
+  private boolean mEnabled = false;
+  private long mFlushIntervalMs = 0;
+  private boolean mFlushScheduled = false;
+
+  private final Choreographer.FrameCallback mFrameCallback = frameTimeNanos -> flush();
+  private final Runnable mFlushRunnable = this::flush;
+
+  public CoalescingEventDispatcher(Emitter emitter) {
+    mEmitter = emitter;
+  }
+
+  /**
+   * Enables or disables batching.
+   *
+   * @param enabled whether events should be buffered and delivered in batches.
+   * @param flushIntervalMs interval between flushes. A value of 0 flushes once per frame.
+   */
+  public void configure(boolean enabled, long flushIntervalMs) {
+    synchronized (this) {
+      mEnabled = enabled;
+      mFlushIntervalMs = Math.max(0, flushIntervalMs);
+    }
+    if (!enabled) {
+      // Deliver anything still buffered so no events are lost when batching is turned off.
+      UiThreadUtil.runOnUiThread(this::flush);
+    }
+  }
+
+  public synchronized boolean isEnabled() {
+    return mEnabled;
+  }
+
+  /**
+   * Sets whether only the latest value of an event is delivered per flush. Events whose values
+   * depend on earlier ones, such as delta updates, must not be coalesced.
+   */
+  public synchronized void setCoalesced(String eventName, boolean coalesced) {
+    if (coalesced) {
+      mCoalescedEvents.add(eventName);
+    } else {
+      mCoalescedEvents.remove(eventName);
+      // A buffered value stays in the queue, but is no longer replaced.
+      mCoalescedSlots.remove(eventName);
+    }
+  }
+
+  public void dispatch(String eventName, @Nullable Object params) {
+    synchronized (this) {
+      if (mEnabled) {
+        enqueue(eventName, params);
+        scheduleFlush();
+        return;
+      }
+    }
+    mEmitter.emit(eventName, params);
+  }
+
+  private void enqueue(String eventName, @Nullable Object params) {
+    if (mCoalescedEvents.contains(eventName)) {
+      PendingEvent slot = mCoalescedSlots.get(eventName);
+      if (slot != null) {
+        // Moves the slot behind discrete events dispatched since its first value.
+        slot.params = params;
+        mQueue.remove(slot);
+        mQueue.add(slot);
+        return;
+      }
+      slot = new PendingEvent(eventName, params);
+      mCoalescedSlots.put(eventName, slot);
+      mQueue.add(slot);
+    } else {
+      mQueue.add(new PendingEvent(eventName, params));
+    }
+  }
+
+  private void scheduleFlush() {
+    if (mFlushScheduled) {
+      return;
+    }
+    mFlushScheduled = true;
+
+    final long flushIntervalMs = mFlushIntervalMs;
+    if (flushIntervalMs > 0) {
+      mMainHandler.postDelayed(mFlushRunnable, flushIntervalMs);
+    } else {
+      UiThreadUtil.runOnUiThread(
+          () -> Choreographer.getInstance().postFrameCallback(mFrameCallback));
+    }
+  }
+
+  /** Delivers all buffered events as a single batch. Must be called on the UI thread. */
+  public void flush() {
+    List<PendingEvent> pending;
+    synchronized (this) {
+      mFlushScheduled = false;
+      mMainHandler.removeCallbacks(mFlushRunnable);
+      Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+      if (mQueue.isEmpty()) {
+        return;
+      }
+      pending = new ArrayList<>(mQueue);
+      mQueue.clear();
+      mCoalescedSlots.clear();
+    }
+
+    if (pending.size() == 1) {
+      PendingEvent event = pending.get(0);
+      mEmitter.emit(event.name, event.params);
+      return;
+    }
+
+    WritableArray batch = Arguments.createArray();
+    for (PendingEvent event : pending) {
+      WritableMap entry = Arguments.createMap();
+      entry.putString(BATCH_EVENT_NAME_KEY, event.name);
+      putParams(entry, event.params);
+      batch.pushMap(entry);
+    }
+    mEmitter.emit(BATCH_EVENT_NAME, batch);
+  }
+
+  /** Drops all buffered events without delivering them. */
+  public synchronized void clear() {
+    mQueue.clear();
+    mCoalescedSlots.clear();
+  }
+
+  private static void putParams(WritableMap entry, @Nullable Object params) {
+    if (params == null) {
+      entry.putNull(BATCH_EVENT_DATA_KEY);
+    } else if (params instanceof ReadableArray) {
+      entry.putArray(BATCH_EVENT_DATA_KEY, (ReadableArray) params);
+    } else if (params instanceof ReadableMap) {
+      entry.putMap(BATCH_EVENT_DATA_KEY, (ReadableMap) params);
+    } else if (params instanceof Boolean) {
+      entry.putBoolean(BATCH_EVENT_DATA_KEY, (Boolean) params);
+    } else if (params instanceof Number) {
+      entry.putDouble(BATCH_EVENT_DATA_KEY, ((Number) params).doubleValue());
+    } else {
+      entry.putString(BATCH_EVENT_DATA_KEY, params.toString());
+    }
+  }
+}
@@ -14,6 +14,10 @@
 package com.google.android.react.navsdk;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 public enum Command {
   MOVE_CAMERA(2, "moveCamera"),
@@ -54,7 +58,31 @@ public enum Command {
   SET_ZOOM_CONTROLS_ENABLED(37, "setZoomControlsEnabled"),
   SET_RECENTER_BUTTON_ENABLED(38, "setRecenterButtonEnabled"),
   SET_PADDING(39, "setPadding"),
-  SET_REPORT_INCIDENT_BUTTON_ENABLED(40, "setReportIncidentButtonEnabled");
+  SET_REPORT_INCIDENT_BUTTON_ENABLED(40, "setReportIncidentButtonEnabled"),
+  /** Runs a list of [command, args] pairs in order. */
+  BATCH(41, "batch");
+
+  /** Commands indexed by value. */
+  private static final Command[] COMMANDS_BY_VALUE;
+
+  /** Values of all commands, keyed by name, as exported to JS. */
+  private static final Map<String, Integer> COMMANDS_MAP;
+
+  static {
+    Command[] commands = values();
+    int maxValue = 0;
+    for (Command command : commands) {
+      maxValue = Math.max(maxValue, command.value);
+    }
+
+    COMMANDS_BY_VALUE = new Command[maxValue + 1];
+    Map<String, Integer> commandsMap = new HashMap<>();
+    for (Command command : commands) {
+      COMMANDS_BY_VALUE[command.value] = command;
+      commandsMap.put(command.name, command.value);
+    }
+    COMMANDS_MAP = Collections.unmodifiableMap(commandsMap);
+  }
 
   private final int value;
   private final String name;
@@ -73,10 +101,15 @@ public enum Command {
     return this.name;
   }
 
+  @Nullable
   public static Command find(int value) {
-    for (Command i : Command.values()) {
-      if (i.value == value) return i;
+    if (value < 0 || value >= COMMANDS_BY_VALUE.length) {
+      return null;
     }
-    return null;
+    return COMMANDS_BY_VALUE[value];
+  }
+
+  public static Map<String, Integer> getCommandsMap() {
+    return COMMANDS_MAP;
   }
 }
@@ -16,4 +16,10 @@ package com.google.android.react.navsdk;
 public class Constants {
   public static final String LAT_FIELD_KEY = "lat";
   public static final String LNG_FIELD_KEY = "lng";
+
+  public static final String OVERLAY_TYPE_MARKER = "marker";
+  public static final String OVERLAY_TYPE_POLYLINE = "polyline";
+  public static final String OVERLAY_TYPE_POLYGON = "polygon";
+  public static final String OVERLAY_TYPE_CIRCLE = "circle";
+  public static final String OVERLAY_TYPE_GROUND_OVERLAY = "groundOverlay";
 }
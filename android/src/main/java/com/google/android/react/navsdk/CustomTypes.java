@@ -18,4 +18,16 @@ public class CustomTypes {
     MAP,
     NAVIGATION
   }
+
+  /** Serialization format for lists of coordinates sent to React Native. */
+  public enum GeometryFormat {
+    /** Array of {@code {lat, lng}} maps. */
+    LAT_LNG,
+    /** Google encoded polyline string. */
+    ENCODED_POLYLINE,
+    /** Flat {@code [lat, lng, lat, lng, ...]} array of doubles. */
+    PACKED,
+    /** Geometry is omitted. */
+    NONE
+  }
 }
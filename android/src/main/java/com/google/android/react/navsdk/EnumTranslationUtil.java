@@ -96,4 +96,14 @@ public class EnumTranslationUtil {
       default -> throw new IllegalStateException("Unexpected FragmentType value: " + jsValue);
     };
   }
+
+  public static CustomTypes.GeometryFormat getGeometryFormatFromJsValue(int jsValue) {
+    return switch (jsValue) {
+      case 0 -> CustomTypes.GeometryFormat.LAT_LNG;
+      case 1 -> CustomTypes.GeometryFormat.ENCODED_POLYLINE;
+      case 2 -> CustomTypes.GeometryFormat.PACKED;
+      case 3 -> CustomTypes.GeometryFormat.NONE;
+      default -> throw new IllegalStateException("Unexpected GeometryFormat value: " + jsValue);
+    };
+  }
 }
@@ -0,0 +1,359 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Answers which polygons and circles of a map contain a point. Shapes are kept in an R-tree of
+ * their bounding boxes, bulk loaded when the set of shapes changes, and candidates are checked
+ * exactly with ray casting for polygons and the haversine distance for circles.
+ *
+ * <p>Shapes may be added and removed on any thread. Queries run on a background thread.
+ */
+public class GeofenceIndex {
+  /** Maximum number of entries per R-tree node. */
+  private static final int NODE_CAPACITY = 16;
+
+  private static final double EARTH_RADIUS_METERS = 6371008.8;
+  private static final double METERS_PER_DEGREE_LAT = 111320;
+
+  private static final ExecutorService sExecutor = Executors.newSingleThreadExecutor();
+
+  private abstract static class Shape {
+    final String id;
+    double minLat;
+    double maxLat;
+    double minLng;
+    double maxLng;
+
+    Shape(String id) {
+      this.id = id;
+    }
+
+    abstract boolean contains(double lat, double lng);
+  }
+
+  private static final class PolygonShape extends Shape {
+    /** Outer ring followed by the holes, as alternating latitudes and longitudes. */
+    final double[][] rings;
+
+    /** Whether longitudes were moved to [0, 360) because the polygon crosses the antimeridian. */
+    final boolean shifted;
+
+    PolygonShape(String id, List<LatLng> points, List<? extends List<LatLng>> holes) {
+      super(id);
+      double west = 180;
+      double east = -180;
+      for (LatLng point : points) {
+        west = Math.min(west, point.longitude);
+        east = Math.max(east, point.longitude);
+      }
+      shifted = east - west > 180;
+
+      rings = new double[holes.size() + 1][];
+      rings[0] = toRing(points);
+      for (int i = 0; i < holes.size(); i++) {
+        rings[i + 1] = toRing(holes.get(i));
+      }
+
+      minLat = 90;
+      maxLat = -90;
+      minLng = 360;
+      maxLng = -180;
+      double[] outer = rings[0];
+      for (int i = 0; i < outer.length; i += 2) {
+        minLat = Math.min(minLat, outer[i]);
+        maxLat = Math.max(maxLat, outer[i]);
+        minLng = Math.min(minLng, outer[i + 1]);
+        maxLng = Math.max(maxLng, outer[i + 1]);
+      }
+    }
+
+    private double[] toRing(List<LatLng> points) {
+      double[] ring = new double[points.size() * 2];
+      for (int i = 0; i < points.size(); i++) {
+        LatLng point = points.get(i);
+        ring[i * 2] = point.latitude;
+        ring[i * 2 + 1] = normalizeLng(point.longitude);
+      }
+      return ring;
+    }
+
+    private double normalizeLng(double lng) {
+      return shifted && lng < 0 ? lng + 360 : lng;
+    }
+
+    @Override
+    boolean contains(double lat, double lng) {
+      lng = normalizeLng(lng);
+      if (!isInRing(rings[0], lat, lng)) {
+        return false;
+      }
+      for (int i = 1; i < rings.length; i++) {
+        if (isInRing(rings[i], lat, lng)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /** Even-odd ray casting in a plane of latitudes and longitudes. */
+    private static boolean isInRing(double[] ring, double lat, double lng) {
+      boolean inside = false;
+      int count = ring.length / 2;
+      for (int i = 0, j = count - 1; i < count; j = i++) {
+        double latI = ring[i * 2];
+        double lngI = ring[i * 2 + 1];
+        double latJ = ring[j * 2];
+        double lngJ = ring[j * 2 + 1];
+        if ((latI > lat) != (latJ > lat)
+            && lng < (lngJ - lngI) * (lat - latI) / (latJ - latI) + lngI) {
+          inside = !inside;
+        }
+      }
+      return inside;
+    }
+  }
+
+  private static final class CircleShape extends Shape {
+    final double centerLat;
+    final double centerLng;
+    final double radiusMeters;
+
+    CircleShape(String id, LatLng center, double radiusMeters) {
+      super(id);
+      this.centerLat = center.latitude;
+      this.centerLng = center.longitude;
+      this.radiusMeters = radiusMeters;
+
+      double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+      this.minLat = Math.max(-90, centerLat - latDelta);
+      this.maxLat = Math.min(90, centerLat + latDelta);
+      double cosLat = Math.cos(Math.toRadians(centerLat));
+      double lngDelta = cosLat > 0 ? latDelta / cosLat : 360;
+      if (lngDelta >= 180 || minLat == -90 || maxLat == 90) {
+        this.minLng = -180;
+        this.maxLng = 180;
+      } else {
+        double minLng = centerLng - lngDelta;
+        double maxLng = centerLng + lngDelta;
+        // Keeps boxes crossing the antimeridian in one piece, on its eastern side.
+        double shift = minLng < -180 ? 360 : 0;
+        this.minLng = minLng + shift;
+        this.maxLng = maxLng + shift;
+      }
+    }
+
+    @Override
+    boolean contains(double lat, double lng) {
+      return getDistanceMeters(centerLat, centerLng, lat, lng) <= radiusMeters;
+    }
+  }
+
+  private static final class Node {
+    double minLat = 90;
+    double maxLat = -90;
+    double minLng = 540;
+    double maxLng = -180;
+    @Nullable Node[] children;
+    @Nullable Shape[] shapes;
+
+    boolean contains(double lat, double lng) {
+      return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+
+    void include(Shape shape) {
+      include(shape.minLat, shape.maxLat, shape.minLng, shape.maxLng);
+    }
+
+    void include(Node node) {
+      include(node.minLat, node.maxLat, node.minLng, node.maxLng);
+    }
+
+    private void include(double minLat, double maxLat, double minLng, double maxLng) {
+      this.minLat = Math.min(this.minLat, minLat);
+      this.maxLat = Math.max(this.maxLat, maxLat);
+      this.minLng = Math.min(this.minLng, minLng);
+      this.maxLng = Math.max(this.maxLng, maxLng);
+    }
+  }
+
+  private final Map<String, Shape> mShapes = new LinkedHashMap<>();
+
+  /** R-tree of the current shapes, or null if it has to be rebuilt. */
+  @Nullable private volatile Node mRoot;
+
+  public void addPolygon(String id, List<LatLng> points, List<? extends List<LatLng>> holes) {
+    if (points.size() < 3) {
+      return;
+    }
+    put(new PolygonShape(id, points, holes));
+  }
+
+  public void addCircle(String id, LatLng center, double radiusMeters) {
+    put(new CircleShape(id, center, radiusMeters));
+  }
+
+  private synchronized void put(Shape shape) {
+    mShapes.put(shape.id, shape);
+    mRoot = null;
+  }
+
+  public synchronized void remove(String id) {
+    if (mShapes.remove(id) != null) {
+      mRoot = null;
+    }
+  }
+
+  public synchronized void clear() {
+    mShapes.clear();
+    mRoot = null;
+  }
+
+  /**
+   * Finds the shapes containing each point on a background thread. {@code callback} is called on
+   * that thread with one list of ids per point, in the order of the points.
+   */
+  public void query(List<LatLng> points, Consumer<List<List<String>>> callback) {
+    sExecutor.execute(
+        () -> {
+          Node root = getRoot();
+          List<List<String>> results = new ArrayList<>(points.size());
+          for (LatLng point : points) {
+            results.add(query(root, point));
+          }
+          callback.accept(results);
+        });
+  }
+
+  private synchronized Node getRoot() {
+    Node root = mRoot;
+    if (root == null) {
+      root = build(new ArrayList<>(mShapes.values()));
+      mRoot = root;
+    }
+    return root;
+  }
+
+  private static List<String> query(Node root, LatLng point) {
+    Set<String> ids = new LinkedHashSet<>();
+    double lat = point.latitude;
+    double lng = point.longitude;
+    search(root, lat, lng, ids);
+    if (lng < 0) {
+      // Finds shapes whose bounding box was moved east of the antimeridian.
+      search(root, lat, lng + 360, ids);
+    }
+    return new ArrayList<>(ids);
+  }
+
+  private static void search(Node node, double lat, double lng, Set<String> ids) {
+    if (!node.contains(lat, lng)) {
+      return;
+    }
+    if (node.shapes != null) {
+      for (Shape shape : node.shapes) {
+        if (lat >= shape.minLat
+            && lat <= shape.maxLat
+            && lng >= shape.minLng
+            && lng <= shape.maxLng
+            && shape.contains(lat, lng)) {
+          ids.add(shape.id);
+        }
+      }
+      return;
+    }
+    for (Node child : node.children) {
+      search(child, lat, lng, ids);
+    }
+  }
+
+  /** Bulk loads an R-tree with the sort-tile-recursive algorithm. */
+  private static Node build(List<Shape> shapes) {
+    List<Node> nodes = new ArrayList<>();
+    shapes.sort(Comparator.comparingDouble(shape -> shape.minLng + shape.maxLng));
+    int sliceSize = getSliceSize(shapes.size());
+    for (int start = 0; start < shapes.size(); start += sliceSize) {
+      List<Shape> slice = shapes.subList(start, Math.min(start + sliceSize, shapes.size()));
+      slice.sort(Comparator.comparingDouble(shape -> shape.minLat + shape.maxLat));
+      for (int i = 0; i < slice.size(); i += NODE_CAPACITY) {
+        Node leaf = new Node();
+        leaf.shapes =
+            slice.subList(i, Math.min(i + NODE_CAPACITY, slice.size())).toArray(new Shape[0]);
+        for (Shape shape : leaf.shapes) {
+          leaf.include(shape);
+        }
+        nodes.add(leaf);
+      }
+    }
+
+    if (nodes.isEmpty()) {
+      Node empty = new Node();
+      empty.shapes = new Shape[0];
+      return empty;
+    }
+
+    while (nodes.size() > 1) {
+      List<Node> parents = new ArrayList<>();
+      nodes.sort(Comparator.comparingDouble(node -> node.minLng + node.maxLng));
+      int nodeSliceSize = getSliceSize(nodes.size());
+      for (int start = 0; start < nodes.size(); start += nodeSliceSize) {
+        List<Node> slice = nodes.subList(start, Math.min(start + nodeSliceSize, nodes.size()));
+        slice.sort(Comparator.comparingDouble(node -> node.minLat + node.maxLat));
+        for (int i = 0; i < slice.size(); i += NODE_CAPACITY) {
+          Node parent = new Node();
+          parent.children =
+              slice.subList(i, Math.min(i + NODE_CAPACITY, slice.size())).toArray(new Node[0]);
+          for (Node child : parent.children) {
+            parent.include(child);
+          }
+          parents.add(parent);
+        }
+      }
+      nodes = parents;
+    }
+    return nodes.get(0);
+  }
+
+  /** Returns the number of entries per vertical slice so that slices are roughly square. */
+  private static int getSliceSize(int count) {
+    int leafCount = (int) Math.ceil((double) count / NODE_CAPACITY);
+    int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+    return Math.max(1, sliceCount) * NODE_CAPACITY;
+  }
+
+  private static double getDistanceMeters(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a =
+        Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2)
+                * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/** Helpers for encoding and decoding lists of coordinates. */
+public class GeometryUtil {
+  private static final double EARTH_RADIUS_METERS = 6371008.8;
+
+  /**
+   * Encodes points in the Google encoded polyline format.
+   *
+   * @see <a
+   *     href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">Encoded
+   *     Polyline Algorithm Format</a>
+   */
+  public static String encodePolyline(List<LatLng> points, int fromIndex, int toIndex) {
+    StringBuilder result = new StringBuilder((toIndex - fromIndex) * 8);
+    long lastLat = 0;
+    long lastLng = 0;
+
+    for (int i = fromIndex; i < toIndex; i++) {
+      LatLng point = points.get(i);
+      long lat = Math.round(point.latitude * 1e5);
+      long lng = Math.round(point.longitude * 1e5);
+      encodeValue(lat - lastLat, result);
+      encodeValue(lng - lastLng, result);
+      lastLat = lat;
+      lastLng = lng;
+    }
+
+    return result.toString();
+  }
+
+  public static String encodePolyline(List<LatLng> points) {
+    return encodePolyline(points, 0, points.size());
+  }
+
+  private static void encodeValue(long value, StringBuilder result) {
+    value = value < 0 ? ~(value << 1) : value << 1;
+    while (value >= 0x20) {
+      result.append((char) ((0x20 | (value & 0x1f)) + 63));
+      value >>= 5;
+    }
+    result.append((char) (value + 63));
+  }
+
+  /** Decodes a string in the Google encoded polyline format. */
+  public static List<LatLng> decodePolyline(String encoded) {
+    int length = encoded.length();
+    List<LatLng> points = new ArrayList<>(length / 4);
+    int index = 0;
+    long lat = 0;
+    long lng = 0;
+
+    while (index < length) {
+      long[] latResult = decodeValue(encoded, index);
+      lat += latResult[0];
+      index = (int) latResult[1];
+      if (index >= length) {
+        throw new IllegalArgumentException("Invalid encoded polyline");
+      }
+
+      long[] lngResult = decodeValue(encoded, index);
+      lng += lngResult[0];
+      index = (int) lngResult[1];
+
+      points.add(new LatLng(lat / 1e5, lng / 1e5));
+    }
+
+    return points;
+  }
+
+  /** Returns the decoded value and the index following it. */
+  private static long[] decodeValue(String encoded, int index) {
+    long result = 0;
+    int shift = 0;
+    int b;
+    do {
+      if (index >= encoded.length()) {
+        throw new IllegalArgumentException("Invalid encoded polyline");
+      }
+      b = encoded.charAt(index++) - 63;
+      result |= (long) (b & 0x1f) << shift;
+      shift += 5;
+    } while (b >= 0x20);
+
+    long value = (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+    return new long[] {value, index};
+  }
+
+  /** Returns the points as a flat {@code [lat, lng, lat, lng, ...]} array. */
+  public static WritableArray getPackedArrayFromLatLngs(
+      List<LatLng> points, int fromIndex, int toIndex) {
+    WritableArray array = Arguments.createArray();
+    for (int i = fromIndex; i < toIndex; i++) {
+      LatLng point = points.get(i);
+      array.pushDouble(point.latitude);
+      array.pushDouble(point.longitude);
+    }
+    return array;
+  }
+
+  /**
+   * Reads points from a flat {@code [lat, lng, lat, lng, ...]} list of numbers, as produced by
+   * {@code ReadableArray.toArrayList()}.
+   */
+  public static List<LatLng> getLatLngsFromPackedList(List<?> values) {
+    if (values.size() % 2 != 0) {
+      throw new IllegalArgumentException("Packed coordinates must have an even number of values");
+    }
+
+    List<LatLng> points = new ArrayList<>(values.size() / 2);
+    for (int i = 0; i < values.size(); i += 2) {
+      double lat = ((Number) values.get(i)).doubleValue();
+      double lng = ((Number) values.get(i + 1)).doubleValue();
+      points.add(new LatLng(lat, lng));
+    }
+    return points;
+  }
+
+  /** Returns the points as an array of {@code {lat, lng}} maps. */
+  public static WritableArray getLatLngArrayFromLatLngs(
+      List<LatLng> points, int fromIndex, int toIndex) {
+    WritableArray array = Arguments.createArray();
+    for (int i = fromIndex; i < toIndex; i++) {
+      array.pushMap(ObjectTranslationUtil.getMapFromLatLng(points.get(i)));
+    }
+    return array;
+  }
+
+  /**
+   * Puts the points in {@code [fromIndex, toIndex)} into {@code map} using the given format.
+   * Points in {@link CustomTypes.GeometryFormat#LAT_LNG} format are stored under {@code
+   * latLngListKey}, encoded polylines under "encodedPolyline" and packed arrays under
+   * "packedLatLngs".
+   */
+  public static void putGeometry(
+      WritableMap map,
+      String latLngListKey,
+      List<LatLng> points,
+      int fromIndex,
+      int toIndex,
+      CustomTypes.GeometryFormat format) {
+    switch (format) {
+      case LAT_LNG:
+        map.putArray(latLngListKey, getLatLngArrayFromLatLngs(points, fromIndex, toIndex));
+        break;
+      case ENCODED_POLYLINE:
+        map.putString("encodedPolyline", encodePolyline(points, fromIndex, toIndex));
+        break;
+      case PACKED:
+        map.putArray("packedLatLngs", getPackedArrayFromLatLngs(points, fromIndex, toIndex));
+        break;
+      case NONE:
+        break;
+    }
+  }
+
+  /**
+   * Simplifies the points in {@code [fromIndex, toIndex)} using the Douglas-Peucker algorithm. The
+   * first and last points are always kept.
+   *
+   * @param toleranceMeters maximum distance in meters between a removed point and the simplified
+   *     line. Values of 0 or less return the points unchanged.
+   */
+  public static List<LatLng> simplify(
+      List<LatLng> points, int fromIndex, int toIndex, double toleranceMeters) {
+    int count = toIndex - fromIndex;
+    if (toleranceMeters <= 0 || count <= 2) {
+      return new ArrayList<>(points.subList(fromIndex, toIndex));
+    }
+
+    // Project to a local equirectangular plane in meters, which is accurate enough at the
+    // distances simplification tolerances are given in.
+    double cosLat = Math.cos(Math.toRadians(points.get(fromIndex).latitude));
+    double[] x = new double[count];
+    double[] y = new double[count];
+    for (int i = 0; i < count; i++) {
+      LatLng point = points.get(fromIndex + i);
+      x[i] = Math.toRadians(point.longitude) * cosLat * EARTH_RADIUS_METERS;
+      y[i] = Math.toRadians(point.latitude) * EARTH_RADIUS_METERS;
+    }
+
+    boolean[] keep = new boolean[count];
+    keep[0] = true;
+    keep[count - 1] = true;
+    double toleranceSquared = toleranceMeters * toleranceMeters;
+
+    // Iterative to avoid deep recursion on long paths.
+    Deque<int[]> ranges = new ArrayDeque<>();
+    ranges.push(new int[] {0, count - 1});
+    while (!ranges.isEmpty()) {
+      int[] range = ranges.pop();
+      int first = range[0];
+      int last = range[1];
+      double maxDistanceSquared = 0;
+      int farthest = -1;
+      for (int i = first + 1; i < last; i++) {
+        double distanceSquared =
+            segmentDistanceSquared(x[i], y[i], x[first], y[first], x[last], y[last]);
+        if (distanceSquared > maxDistanceSquared) {
+          maxDistanceSquared = distanceSquared;
+          farthest = i;
+        }
+      }
+      if (farthest != -1 && maxDistanceSquared > toleranceSquared) {
+        keep[farthest] = true;
+        ranges.push(new int[] {first, farthest});
+        ranges.push(new int[] {farthest, last});
+      }
+    }
+
+    List<LatLng> result = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      if (keep[i]) {
+        result.add(points.get(fromIndex + i));
+      }
+    }
+    return result;
+  }
+
+  private static double segmentDistanceSquared(
+      double px, double py, double ax, double ay, double bx, double by) {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double lengthSquared = dx * dx + dy * dy;
+    double t = 0;
+    if (lengthSquared > 0) {
+      t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+    }
+    double cx = ax + t * dx - px;
+    double cy = ay + t * dy - py;
+    return cx * cx + cy * cy;
+  }
+}
@@ -14,6 +14,7 @@
 package com.google.android.react.navsdk;
 
 import android.view.View;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.libraries.navigation.StylingOptions;
 
@@ -28,6 +29,18 @@ public interface IMapViewFragment {
 
   GoogleMap getGoogleMap();
 
+  /**
+   * Sends the fragment's events to another React view. Emits onMapReady to it if the map is
+   * already initialized.
+   */
+  void setViewTag(int viewTag);
+
+  /** Called when the map is ready, before onMapReady is emitted to JS. */
+  void setOnMapReadyListener(@Nullable Runnable listener);
+
+  /** Resets the map and stops sending events, before the fragment is parked for reuse. */
+  void prepareForReuse();
+
   // Fragment
   boolean isAdded();
 
@@ -13,6 +13,7 @@
  */
 package com.google.android.react.navsdk;
 
+import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.GroundOverlay;
 import com.google.android.gms.maps.model.LatLng;
@@ -25,6 +26,15 @@ public interface INavigationViewCallback {
 
   void onMarkerClick(Marker marker);
 
+  /** Called when a cluster marker shown by {@link MarkerClusterer} is tapped. */
+  void onClusterClick(WritableMap cluster);
+
+  /**
+   * Called when a marker whose id is managed by the plugin (a clustered marker shown on its own or
+   * a virtual marker) is tapped.
+   */
+  void onMarkerClick(Marker marker, String markerId);
+
   void onPolylineClick(Polyline polyline);
 
   void onPolygonClick(Polygon polygon);
@@ -21,4 +21,13 @@ public class JsErrors {
   public static final String NO_MAP_ERROR_CODE = "NO_MAP_ERROR_CODE";
   public static final String NO_MAP_ERROR_MESSAGE =
       "Make sure to initialize the map view has been initialized before executing.";
+
+  public static final String INVALID_GEOMETRY_ERROR_CODE = "INVALID_GEOMETRY_ERROR_CODE";
+  public static final String INVALID_GEOMETRY_ERROR_MESSAGE =
+      "Points must be an array of LatLng, a flat [lat, lng, ...] number array or an encoded"
+          + " polyline string.";
+
+  public static final String INVALID_MARKER_ERROR_CODE = "INVALID_MARKER_ERROR_CODE";
+  public static final String INVALID_MARKER_ERROR_MESSAGE =
+      "Marker options must have a position and a valid image path.";
 }
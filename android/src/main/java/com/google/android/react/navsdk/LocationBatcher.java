@@ -0,0 +1,121 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+/**
+ * Buffers locations in parallel primitive arrays and delivers them as a single columnar map once
+ * {@code maxLocations} fixes have been collected or {@code maxDelayMs} has passed since the first
+ * buffered fix.
+ */
+public class LocationBatcher {
+  public interface Listener {
+    void onLocationBatch(WritableMap batch);
+  }
+
+  private final int maxLocations;
+  private final long maxDelayMs;
+  private final Listener listener;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final Runnable flushRunnable = this::flush;
+
+  private final double[] lat;
+  private final double[] lng;
+  private final double[] time;
+  private final double[] speed;
+  private final double[] bearing;
+  private final double[] accuracy;
+  private int size = 0;
+
+  public LocationBatcher(int maxLocations, long maxDelayMs, Listener listener) {
+    this.maxLocations = Math.max(1, maxLocations);
+    this.maxDelayMs = maxDelayMs;
+    this.listener = listener;
+
+    lat = new double[this.maxLocations];
+    lng = new double[this.maxLocations];
+    time = new double[this.maxLocations];
+    speed = new double[this.maxLocations];
+    bearing = new double[this.maxLocations];
+    accuracy = new double[this.maxLocations];
+  }
+
+  public void add(Location location) {
+    boolean isFull;
+    synchronized (this) {
+      lat[size] = location.getLatitude();
+      lng[size] = location.getLongitude();
+      time[size] = location.getTime();
+      speed[size] = location.getSpeed();
+      bearing[size] = location.hasBearing() ? location.getBearing() : Double.NaN;
+      accuracy[size] = location.hasAccuracy() ? location.getAccuracy() : Double.NaN;
+      size++;
+
+      isFull = size >= maxLocations;
+      if (size == 1 && !isFull && maxDelayMs > 0) {
+        mainHandler.postDelayed(flushRunnable, maxDelayMs);
+      }
+    }
+
+    if (isFull) {
+      flush();
+    }
+  }
+
+  /** Delivers all buffered locations, if any. */
+  public void flush() {
+    WritableMap batch;
+    synchronized (this) {
+      mainHandler.removeCallbacks(flushRunnable);
+      if (size == 0) {
+        return;
+      }
+
+      batch = Arguments.createMap();
+      batch.putArray(Constants.LAT_FIELD_KEY, toArray(lat, size));
+      batch.putArray(Constants.LNG_FIELD_KEY, toArray(lng, size));
+      batch.putArray("time", toArray(time, size));
+      batch.putArray("speed", toArray(speed, size));
+      batch.putArray("bearing", toArray(bearing, size));
+      batch.putArray("accuracy", toArray(accuracy, size));
+      size = 0;
+    }
+
+    listener.onLocationBatch(batch);
+  }
+
+  /** Drops all buffered locations without delivering them. */
+  public synchronized void clear() {
+    mainHandler.removeCallbacks(flushRunnable);
+    size = 0;
+  }
+
+  private static WritableArray toArray(double[] values, int count) {
+    WritableArray array = Arguments.createArray();
+    for (int i = 0; i < count; i++) {
+      if (Double.isNaN(values[i])) {
+        array.pushNull();
+      } else {
+        array.pushDouble(values[i]);
+      }
+    }
+    return array;
+  }
+}
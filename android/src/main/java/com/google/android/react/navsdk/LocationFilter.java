@@ -0,0 +1,40 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+
+/**
+ * Decides whether a location update should be forwarded to React Native. Filters are evaluated
+ * before any bridge objects are created for the location.
+ */
+public interface LocationFilter {
+  /** A filter that accepts every location. */
+  LocationFilter ACCEPT_ALL =
+      new LocationFilter() {
+        @Override
+        public boolean accept(Location location) {
+          return true;
+        }
+
+        @Override
+        public void reset() {}
+      };
+
+  /** Returns true if the location should be forwarded. */
+  boolean accept(Location location);
+
+  /** Clears any state kept from previously accepted locations. */
+  void reset();
+}
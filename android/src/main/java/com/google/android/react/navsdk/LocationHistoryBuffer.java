@@ -0,0 +1,150 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+/**
+ * Bounded ring buffer of locations backed by primitive arrays. Once full, the oldest location is
+ * overwritten by each new one.
+ */
+public class LocationHistoryBuffer {
+  public static final int DEFAULT_CAPACITY = 3600;
+
+  private double[] lat;
+  private double[] lng;
+  private double[] time;
+  private double[] speed;
+  private double[] bearing;
+  private double[] accuracy;
+
+  /** Index the next location is written to. */
+  private int head = 0;
+
+  private int size = 0;
+
+  public LocationHistoryBuffer(int capacity) {
+    allocate(capacity);
+  }
+
+  private void allocate(int capacity) {
+    int safeCapacity = Math.max(1, capacity);
+    lat = new double[safeCapacity];
+    lng = new double[safeCapacity];
+    time = new double[safeCapacity];
+    speed = new double[safeCapacity];
+    bearing = new double[safeCapacity];
+    accuracy = new double[safeCapacity];
+    head = 0;
+    size = 0;
+  }
+
+  /** Changes the capacity. Existing history is discarded. */
+  public synchronized void setCapacity(int capacity) {
+    if (Math.max(1, capacity) != lat.length) {
+      allocate(capacity);
+    }
+  }
+
+  public synchronized void add(Location location) {
+    lat[head] = location.getLatitude();
+    lng[head] = location.getLongitude();
+    time[head] = location.getTime();
+    speed[head] = location.getSpeed();
+    bearing[head] = location.hasBearing() ? location.getBearing() : Double.NaN;
+    accuracy[head] = location.hasAccuracy() ? location.getAccuracy() : Double.NaN;
+
+    head = (head + 1) % lat.length;
+    if (size < lat.length) {
+      size++;
+    }
+  }
+
+  public synchronized void clear() {
+    head = 0;
+    size = 0;
+  }
+
+  /**
+   * Returns the stored locations recorded at or after {@code sinceTimestamp}, oldest first, as
+   * parallel arrays.
+   *
+   * @param sinceTimestamp minimum location time in milliseconds since Unix Epoch.
+   * @param maxPoints maximum number of locations returned, keeping the most recent ones. Values of
+   *     0 or less return all matching locations.
+   * @param decimation keeps only every n-th matching location. Values of 1 or less keep all.
+   */
+  public synchronized WritableMap query(double sinceTimestamp, int maxPoints, int decimation) {
+    int capacity = lat.length;
+    int oldest = (head - size + capacity) % capacity;
+    int step = Math.max(1, decimation);
+
+    // Binary search the first location at or after sinceTimestamp; times are non-decreasing.
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (time[(oldest + mid) % capacity] < sinceTimestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    int matching = size - low;
+    int count = (matching + step - 1) / step;
+    int first = low;
+    if (maxPoints > 0 && count > maxPoints) {
+      first += (count - maxPoints) * step;
+      count = maxPoints;
+    }
+
+    WritableArray latArr = Arguments.createArray();
+    WritableArray lngArr = Arguments.createArray();
+    WritableArray timeArr = Arguments.createArray();
+    WritableArray speedArr = Arguments.createArray();
+    WritableArray bearingArr = Arguments.createArray();
+    WritableArray accuracyArr = Arguments.createArray();
+
+    for (int n = 0; n < count; n++) {
+      int i = (oldest + first + n * step) % capacity;
+      latArr.pushDouble(lat[i]);
+      lngArr.pushDouble(lng[i]);
+      timeArr.pushDouble(time[i]);
+      speedArr.pushDouble(speed[i]);
+      pushOptional(bearingArr, bearing[i]);
+      pushOptional(accuracyArr, accuracy[i]);
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putArray(Constants.LAT_FIELD_KEY, latArr);
+    map.putArray(Constants.LNG_FIELD_KEY, lngArr);
+    map.putArray("time", timeArr);
+    map.putArray("speed", speedArr);
+    map.putArray("bearing", bearingArr);
+    map.putArray("accuracy", accuracyArr);
+    return map;
+  }
+
+  private static void pushOptional(WritableArray array, double value) {
+    if (Double.isNaN(value)) {
+      array.pushNull();
+    } else {
+      array.pushDouble(value);
+    }
+  }
+}
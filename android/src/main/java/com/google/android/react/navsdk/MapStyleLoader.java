@@ -0,0 +1,398 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.MapStyleOptions;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads map styles from URLs for all map views. Styles are kept in memory and on disk, keyed by
+ * URL, and revalidated with the server using ETag and Last-Modified. Concurrent requests for the
+ * same URL share one download, and the parsed {@link MapStyleOptions} are reused.
+ *
+ * <p>A cached style is delivered immediately. If revalidation finds that it changed, the new style
+ * is delivered to the same callback again. Cache files are replaced atomically, so a process killed
+ * while writing leaves the previous version.
+ */
+public class MapStyleLoader {
+  private static final String TAG = "MapStyleLoader";
+
+  /** Number of threads used for downloads and disk access. */
+  private static final int THREAD_COUNT = 2;
+
+  private static final int MAX_MEMORY_ENTRIES = 16;
+
+  /** Time during which a cached style is used without asking the server. */
+  private static final long REVALIDATE_AFTER_MS = 5 * 60 * 1000;
+
+  private static final int TIMEOUT_MS = 15000;
+
+  private static final String CACHE_DIRECTORY = "map_styles";
+  private static final String KEY_ETAG = "etag";
+  private static final String KEY_LAST_MODIFIED = "lastModified";
+
+  public interface Callback {
+    /** Called on the UI thread with the style, possibly again if it changed on the server. */
+    void onStyleLoaded(MapStyleOptions options);
+  }
+
+  private static final class Entry {
+    final MapStyleOptions options;
+    final String json;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+    final long validatedAtMs;
+
+    Entry(
+        MapStyleOptions options,
+        String json,
+        @Nullable String etag,
+        @Nullable String lastModified,
+        long validatedAtMs) {
+      this.options = options;
+      this.json = json;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.validatedAtMs = validatedAtMs;
+    }
+  }
+
+  /** A load of a URL that is in progress. */
+  private static final class Request {
+    final List<Callback> callbacks = new ArrayList<>();
+
+    /** Cached style already delivered to the callbacks while the load is in progress. */
+    @Nullable Entry shown;
+
+    Request(@Nullable Entry shown) {
+      this.shown = shown;
+    }
+  }
+
+  @Nullable private static MapStyleLoader sInstance;
+
+  private final ExecutorService mExecutor;
+  private final Executor mCallbackExecutor;
+  @Nullable private volatile File mCacheDirectory;
+
+  /** Most recently used styles, keyed by URL. */
+  private final Map<String, Entry> mMemoryCache =
+      Collections.synchronizedMap(
+          new LinkedHashMap<String, Entry>(MAX_MEMORY_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+              return size() > MAX_MEMORY_ENTRIES;
+            }
+          });
+
+  /** Loads in progress, keyed by URL. Guarded by itself. */
+  private final Map<String, Request> mPending = new HashMap<>();
+
+  /**
+   * Returns the shared loader. The first non-null {@code context} enables the disk cache; without
+   * it styles are only cached in memory.
+   */
+  public static synchronized MapStyleLoader getInstance(@Nullable Context context) {
+    if (sInstance == null) {
+      Handler mainHandler = new Handler(Looper.getMainLooper());
+      sInstance =
+          new MapStyleLoader(Executors.newFixedThreadPool(THREAD_COUNT), mainHandler::post, null);
+    }
+    if (sInstance.mCacheDirectory == null && context != null) {
+      sInstance.mCacheDirectory = new File(context.getCacheDir(), CACHE_DIRECTORY);
+    }
+    return sInstance;
+  }
+
+  /**
+   * @param callbackExecutor runs the callbacks; the UI thread outside of tests.
+   */
+  MapStyleLoader(
+      ExecutorService executor, Executor callbackExecutor, @Nullable File cacheDirectory) {
+    mExecutor = executor;
+    mCallbackExecutor = callbackExecutor;
+    mCacheDirectory = cacheDirectory;
+  }
+
+  /** Loads the style at {@code url} and delivers it to {@code callback} on the UI thread. */
+  public void load(String url, Callback callback) {
+    Entry entry = mMemoryCache.get(url);
+    if (entry != null
+        && SystemClock.elapsedRealtime() - entry.validatedAtMs < REVALIDATE_AFTER_MS) {
+      post(callback, entry);
+      return;
+    }
+
+    Request request;
+    boolean isNewRequest = false;
+    synchronized (mPending) {
+      request = mPending.get(url);
+      if (request == null) {
+        request = new Request(entry);
+        mPending.put(url, request);
+        isNewRequest = true;
+      }
+      request.callbacks.add(callback);
+      if (request.shown != null) {
+        post(callback, request.shown);
+      }
+    }
+
+    if (isNewRequest) {
+      Request newRequest = request;
+      mExecutor.execute(() -> fetch(url, newRequest));
+    }
+  }
+
+  /**
+   * Removes all cached styles from memory and disk, then runs {@code onCleared} on the callback
+   * thread.
+   */
+  public void clear(Runnable onCleared) {
+    mMemoryCache.clear();
+    File directory = mCacheDirectory;
+    mExecutor.execute(
+        () -> {
+          File[] files = directory != null ? directory.listFiles() : null;
+          if (files != null) {
+            for (File file : files) {
+              file.delete();
+            }
+          }
+          mCallbackExecutor.execute(onCleared);
+        });
+  }
+
+  /** Runs on the executor. */
+  private void fetch(String url, Request request) {
+    Entry cached;
+    synchronized (mPending) {
+      cached = request.shown;
+    }
+    if (cached == null) {
+      cached = readFromDisk(url);
+      if (cached != null) {
+        // Shows the style from disk while it is revalidated.
+        mMemoryCache.put(url, cached);
+        synchronized (mPending) {
+          request.shown = cached;
+          for (Callback callback : request.callbacks) {
+            post(callback, cached);
+          }
+        }
+      }
+    }
+
+    Entry result = null;
+    try {
+      result = download(url, cached);
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to load map style from " + url, e);
+    }
+    if (result != null) {
+      mMemoryCache.put(url, result);
+    }
+
+    synchronized (mPending) {
+      mPending.remove(url);
+      // Callbacks that already got the same style are not called again.
+      if (result != null && (request.shown == null || !request.shown.json.equals(result.json))) {
+        for (Callback callback : request.callbacks) {
+          post(callback, result);
+        }
+      }
+    }
+  }
+
+  private void post(Callback callback, Entry entry) {
+    mCallbackExecutor.execute(() -> callback.onStyleLoaded(entry.options));
+  }
+
+  /**
+   * Downloads the style, sending the validators of {@code cached}. Returns {@code cached} with a
+   * new validation time if the server reports it is unchanged.
+   */
+  private Entry download(String url, @Nullable Entry cached) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    try {
+      connection.setRequestMethod("GET");
+      connection.setConnectTimeout(TIMEOUT_MS);
+      connection.setReadTimeout(TIMEOUT_MS);
+      if (cached != null && cached.etag != null) {
+        connection.setRequestProperty("If-None-Match", cached.etag);
+      }
+      if (cached != null && cached.lastModified != null) {
+        connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+      }
+
+      int responseCode = connection.getResponseCode();
+      long now = SystemClock.elapsedRealtime();
+      if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+        return new Entry(cached.options, cached.json, cached.etag, cached.lastModified, now);
+      }
+      if (responseCode != HttpURLConnection.HTTP_OK) {
+        throw new IOException("Error response: " + responseCode);
+      }
+
+      String json;
+      try (InputStream inputStream = connection.getInputStream()) {
+        json = new String(readAll(inputStream), StandardCharsets.UTF_8);
+      }
+      String etag = connection.getHeaderField("ETag");
+      String lastModified = connection.getHeaderField("Last-Modified");
+      writeToDisk(url, json, etag, lastModified);
+      // A server without validators sends the same style again; the parsed style is kept.
+      MapStyleOptions options =
+          cached != null && cached.json.equals(json) ? cached.options : new MapStyleOptions(json);
+      return new Entry(options, json, etag, lastModified, now);
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  @Nullable
+  private Entry readFromDisk(String url) {
+    File directory = mCacheDirectory;
+    if (directory == null) {
+      return null;
+    }
+
+    String name = getFileName(url);
+    File styleFile = new File(directory, name + ".json");
+    File metadataFile = new File(directory, name + ".properties");
+    if (!styleFile.exists()) {
+      return null;
+    }
+
+    try {
+      String json;
+      try (InputStream inputStream = new FileInputStream(styleFile)) {
+        json = new String(readAll(inputStream), StandardCharsets.UTF_8);
+      }
+      Properties metadata = new Properties();
+      if (metadataFile.exists()) {
+        try (InputStream inputStream = new FileInputStream(metadataFile)) {
+          metadata.load(inputStream);
+        }
+      }
+      // A style from disk is always revalidated before it is considered fresh.
+      return new Entry(
+          new MapStyleOptions(json),
+          json,
+          metadata.getProperty(KEY_ETAG),
+          metadata.getProperty(KEY_LAST_MODIFIED),
+          0);
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to read cached map style", e);
+      return null;
+    }
+  }
+
+  private void writeToDisk(
+      String url, String json, @Nullable String etag, @Nullable String lastModified) {
+    File directory = mCacheDirectory;
+    if (directory == null || (!directory.isDirectory() && !directory.mkdirs())) {
+      return;
+    }
+
+    String name = getFileName(url);
+    Properties metadata = new Properties();
+    if (etag != null) {
+      metadata.setProperty(KEY_ETAG, etag);
+    }
+    if (lastModified != null) {
+      metadata.setProperty(KEY_LAST_MODIFIED, lastModified);
+    }
+
+    try {
+      // The style is written first, so validators on disk never belong to an older style.
+      writeAtomically(
+          new File(directory, name + ".json"), json.getBytes(StandardCharsets.UTF_8), directory);
+      ByteArrayOutputStream metadataBytes = new ByteArrayOutputStream();
+      metadata.store(metadataBytes, url);
+      writeAtomically(
+          new File(directory, name + ".properties"), metadataBytes.toByteArray(), directory);
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to cache map style", e);
+    }
+  }
+
+  /** Writes to a temporary file that is then renamed over {@code file}. */
+  private static void writeAtomically(File file, byte[] bytes, File directory) throws IOException {
+    File tempFile = File.createTempFile(file.getName(), ".tmp", directory);
+    try {
+      try (OutputStream outputStream = new FileOutputStream(tempFile)) {
+        outputStream.write(bytes);
+      }
+      if (!tempFile.renameTo(file)) {
+        throw new IOException("Failed to replace " + file);
+      }
+    } finally {
+      // Only exists here if it could not be renamed.
+      tempFile.delete();
+    }
+  }
+
+  private static byte[] readAll(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      outputStream.write(buffer, 0, read);
+    }
+    return outputStream.toByteArray();
+  }
+
+  /** Returns a file name for the URL that is safe to use on any file system. */
+  private static String getFileName(String url) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+      StringBuilder name = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        name.append(String.format("%02x", b));
+      }
+      return name.toString();
+    } catch (NoSuchAlgorithmException e) {
+      return Integer.toHexString(url.hashCode());
+    }
+  }
+}
@@ -16,10 +16,12 @@ package com.google.android.react.navsdk;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.graphics.Color;
+import androidx.annotation.Nullable;
 import androidx.core.util.Supplier;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.UiSettings;
 import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.BitmapDescriptorFactory;
 import com.google.android.gms.maps.model.CameraPosition;
@@ -28,38 +30,112 @@ import com.google.android.gms.maps.model.CircleOptions;
 import com.google.android.gms.maps.model.GroundOverlay;
 import com.google.android.gms.maps.model.GroundOverlayOptions;
 import com.google.android.gms.maps.model.LatLng;
-import com.google.android.gms.maps.model.MapStyleOptions;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.PolygonOptions;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
 
 public class MapViewController {
   private GoogleMap mGoogleMap;
   private Supplier<Activity> activitySupplier;
   private INavigationViewCallback mNavigationViewCallback;
-  private final List<Marker> markerList = new ArrayList<>();
-  private final List<Polyline> polylineList = new ArrayList<>();
-  private final List<Polygon> polygonList = new ArrayList<>();
-  private final List<GroundOverlay> groundOverlayList = new ArrayList<>();
-  private final List<Circle> circleList = new ArrayList<>();
-  private String style = "";
+  private final OverlayRegistry overlayRegistry = new OverlayRegistry();
+  private final MarkerAnimator markerAnimator = new MarkerAnimator(overlayRegistry);
+  private final GeofenceIndex geofenceIndex = new GeofenceIndex();
+  private final List<GoogleMap.OnCameraIdleListener> cameraIdleListeners = new ArrayList<>();
+  @Nullable private MarkerClusterer markerClusterer;
+  @Nullable private VirtualMarkerLayer virtualMarkerLayer;
+  @Nullable private PolylineLevelOfDetail polylineLevelOfDetail;
+  @Nullable private String styleUrl;
+  @Nullable private InitialState initialState;
+
+  /** The map settings that React views can change, as they were when the map was created. */
+  private static final class InitialState {
+    final int mapType;
+    final boolean trafficEnabled;
+    final boolean indoorEnabled;
+    final boolean buildingsEnabled;
+    final boolean myLocationEnabled;
+    final CameraPosition cameraPosition;
+    final boolean compassEnabled;
+    final boolean myLocationButtonEnabled;
+    final boolean rotateGesturesEnabled;
+    final boolean scrollGesturesEnabled;
+    final boolean scrollGesturesEnabledDuringRotateOrZoom;
+    final boolean tiltGesturesEnabled;
+    final boolean zoomControlsEnabled;
+    final boolean zoomGesturesEnabled;
+    final boolean mapToolbarEnabled;
+
+    InitialState(GoogleMap googleMap) {
+      UiSettings uiSettings = googleMap.getUiSettings();
+      mapType = googleMap.getMapType();
+      trafficEnabled = googleMap.isTrafficEnabled();
+      indoorEnabled = googleMap.isIndoorEnabled();
+      buildingsEnabled = googleMap.isBuildingsEnabled();
+      myLocationEnabled = googleMap.isMyLocationEnabled();
+      cameraPosition = googleMap.getCameraPosition();
+      compassEnabled = uiSettings.isCompassEnabled();
+      myLocationButtonEnabled = uiSettings.isMyLocationButtonEnabled();
+      rotateGesturesEnabled = uiSettings.isRotateGesturesEnabled();
+      scrollGesturesEnabled = uiSettings.isScrollGesturesEnabled();
+      scrollGesturesEnabledDuringRotateOrZoom =
+          uiSettings.isScrollGesturesEnabledDuringRotateOrZoom();
+      tiltGesturesEnabled = uiSettings.isTiltGesturesEnabled();
+      zoomControlsEnabled = uiSettings.isZoomControlsEnabled();
+      zoomGesturesEnabled = uiSettings.isZoomGesturesEnabled();
+      mapToolbarEnabled = uiSettings.isMapToolbarEnabled();
+    }
+
+    @SuppressLint("MissingPermission")
+    void restore(GoogleMap googleMap) {
+      UiSettings uiSettings = googleMap.getUiSettings();
+      googleMap.setMapType(mapType);
+      googleMap.setTrafficEnabled(trafficEnabled);
+      googleMap.setIndoorEnabled(indoorEnabled);
+      googleMap.setBuildingsEnabled(buildingsEnabled);
+      if (googleMap.isMyLocationEnabled() != myLocationEnabled) {
+        googleMap.setMyLocationEnabled(myLocationEnabled);
+      }
+      googleMap.moveCamera(CameraUpdateFactory.newCameraPosition(cameraPosition));
+      uiSettings.setCompassEnabled(compassEnabled);
+      uiSettings.setMyLocationButtonEnabled(myLocationButtonEnabled);
+      uiSettings.setRotateGesturesEnabled(rotateGesturesEnabled);
+      uiSettings.setScrollGesturesEnabled(scrollGesturesEnabled);
+      uiSettings.setScrollGesturesEnabledDuringRotateOrZoom(
+          scrollGesturesEnabledDuringRotateOrZoom);
+      uiSettings.setTiltGesturesEnabled(tiltGesturesEnabled);
+      uiSettings.setZoomControlsEnabled(zoomControlsEnabled);
+      uiSettings.setZoomGesturesEnabled(zoomGesturesEnabled);
+      uiSettings.setMapToolbarEnabled(mapToolbarEnabled);
+    }
+  }
 
   public void initialize(GoogleMap googleMap, Supplier<Activity> activitySupplier) {
     this.mGoogleMap = googleMap;
     this.activitySupplier = activitySupplier;
+    this.initialState = new InitialState(googleMap);
+
+    // GoogleMap supports a single camera idle listener, so it is shared by all features.
+    mGoogleMap.setOnCameraIdleListener(
+        () -> {
+          for (GoogleMap.OnCameraIdleListener listener : new ArrayList<>(cameraIdleListeners)) {
+            listener.onCameraIdle();
+          }
+        });
+  }
+
+  public void addOnCameraIdleListener(GoogleMap.OnCameraIdleListener listener) {
+    cameraIdleListeners.add(listener);
+  }
+
+  public void removeOnCameraIdleListener(GoogleMap.OnCameraIdleListener listener) {
+    cameraIdleListeners.remove(listener);
   }
 
   public void setupMapListeners(INavigationViewCallback navigationViewCallback) {
@@ -68,7 +144,17 @@ public class MapViewController {
 
     mGoogleMap.setOnMarkerClickListener(
         marker -> {
-          mNavigationViewCallback.onMarkerClick(marker);
+          if (markerClusterer != null
+              && markerClusterer.onMarkerClick(marker, mNavigationViewCallback)) {
+            return false;
+          }
+          String virtualMarkerId =
+              virtualMarkerLayer != null ? virtualMarkerLayer.getIdForMarker(marker) : null;
+          if (virtualMarkerId != null) {
+            mNavigationViewCallback.onMarkerClick(marker, virtualMarkerId);
+          } else {
+            mNavigationViewCallback.onMarkerClick(marker);
+          }
           return false;
         });
 
@@ -122,7 +208,8 @@ public class MapViewController {
     }
 
     Circle circle = mGoogleMap.addCircle(options);
-    circleList.add(circle);
+    overlayRegistry.add(circle);
+    geofenceIndex.addCircle(circle.getId(), options.getCenter(), radius);
 
     return circle;
   }
@@ -132,7 +219,45 @@ public class MapViewController {
       return null;
     }
 
-    String imagePath = CollectionUtil.getString("imgPath", optionsMap);
+    return addMarker(createMarkerOptions(optionsMap));
+  }
+
+  public Marker addMarker(MarkerOptions options) {
+    if (mGoogleMap == null) {
+      return null;
+    }
+
+    Marker marker = mGoogleMap.addMarker(options);
+
+    overlayRegistry.add(marker);
+
+    return marker;
+  }
+
+  /**
+   * Builds marker options from a JS options map. Must be called on the UI thread if the options
+   * have an image, as the marker icon is created here.
+   *
+   * @throws IllegalArgumentException if the position is missing or malformed.
+   */
+  public static MarkerOptions createMarkerOptions(Map<String, Object> optionsMap) {
+    MarkerOptions options = createMarkerOptionsWithoutIcon(optionsMap);
+    setMarkerIcon(options, CollectionUtil.getString("imgPath", optionsMap));
+    return options;
+  }
+
+  /**
+   * Builds marker options from a JS options map, except for the icon, which is set with {@link
+   * #setMarkerIcon}. Does not need to run on the UI thread.
+   *
+   * @throws IllegalArgumentException if the position is missing or malformed.
+   */
+  public static MarkerOptions createMarkerOptionsWithoutIcon(Map<String, Object> optionsMap) {
+    LatLng position = ObjectTranslationUtil.getLatLngFromOptions(optionsMap, "position");
+    if (position == null) {
+      throw new IllegalArgumentException("Marker options must have a position");
+    }
+
     String title = CollectionUtil.getString("title", optionsMap);
     String snippet = CollectionUtil.getString("snippet", optionsMap);
     float alpha = Double.valueOf(CollectionUtil.getDouble("alpha", optionsMap, 1)).floatValue();
@@ -143,13 +268,7 @@ public class MapViewController {
     boolean visible = CollectionUtil.getBool("visible", optionsMap, true);
 
     MarkerOptions options = new MarkerOptions();
-    if (imagePath != null && !imagePath.isEmpty()) {
-      BitmapDescriptor icon = BitmapDescriptorFactory.fromAsset(imagePath);
-      options.icon(icon);
-    }
-
-    options.position(
-        ObjectTranslationUtil.getLatLngFromMap((Map<String, Object>) optionsMap.get("position")));
+    options.position(position);
 
     if (title != null) {
       options.title(title);
@@ -165,34 +284,153 @@ public class MapViewController {
     options.draggable(draggable);
     options.visible(visible);
 
-    Marker marker = mGoogleMap.addMarker(options);
+    return options;
+  }
+
+  /**
+   * Sets the icon of marker options to the image at {@code imagePath} in the app's assets, if a
+   * path is given. Must be called on the UI thread.
+   */
+  public static void setMarkerIcon(MarkerOptions options, @Nullable String imagePath) {
+    if (imagePath != null && !imagePath.isEmpty()) {
+      options.icon(BitmapDescriptorCache.fromAsset(imagePath));
+    }
+  }
 
-    markerList.add(marker);
+  /**
+   * Changes the properties of an existing marker that are present in {@code optionsMap}, keeping
+   * its id. Setting the position stops a running animation of the marker; a malformed position is
+   * ignored. Returns null if there is no marker with the given id.
+   */
+  @Nullable
+  public Marker updateMarker(String id, Map<String, Object> optionsMap) {
+    Marker marker = overlayRegistry.getMarker(id);
+    if (marker == null) {
+      return null;
+    }
+
+    LatLng position = ObjectTranslationUtil.getLatLngFromOptions(optionsMap, "position");
+    if (position != null) {
+      markerAnimator.cancel(id);
+      marker.setPosition(position);
+    }
+    if (optionsMap.containsKey("imgPath")) {
+      String imagePath = CollectionUtil.getString("imgPath", optionsMap);
+      marker.setIcon(
+          imagePath != null && !imagePath.isEmpty()
+              ? BitmapDescriptorCache.fromAsset(imagePath)
+              : BitmapDescriptorFactory.defaultMarker());
+    }
+    if (optionsMap.containsKey("title")) {
+      marker.setTitle(CollectionUtil.getString("title", optionsMap));
+    }
+    if (optionsMap.containsKey("snippet")) {
+      marker.setSnippet(CollectionUtil.getString("snippet", optionsMap));
+    }
+    if (optionsMap.containsKey("alpha")) {
+      marker.setAlpha((float) CollectionUtil.getDouble("alpha", optionsMap, 1));
+    }
+    if (optionsMap.containsKey("rotation")) {
+      marker.setRotation((float) CollectionUtil.getDouble("rotation", optionsMap, 0));
+    }
+    if (optionsMap.containsKey("flat")) {
+      marker.setFlat(CollectionUtil.getBool("flat", optionsMap, false));
+    }
+    if (optionsMap.containsKey("draggable")) {
+      marker.setDraggable(CollectionUtil.getBool("draggable", optionsMap, false));
+    }
+    if (optionsMap.containsKey("visible")) {
+      marker.setVisible(CollectionUtil.getBool("visible", optionsMap, true));
+    }
 
     return marker;
   }
 
+  /**
+   * Moves an existing marker to {@code position} over {@code durationMs}, interpolating its
+   * position on every frame. Returns false if there is no marker with the given id.
+   */
+  public boolean animateMarkerTo(String id, LatLng position, long durationMs) {
+    return markerAnimator.animateTo(id, position, durationMs);
+  }
+
   public Polyline addPolyline(Map<String, Object> optionsMap) {
     if (mGoogleMap == null) {
       return null;
     }
 
+    PolylineOptions options = createPolylineOptions(optionsMap);
+    if (options == null) {
+      return null;
+    }
+
+    return addPolyline(options, isLevelOfDetailEnabled(optionsMap));
+  }
+
+  public Polyline addPolyline(PolylineOptions options) {
+    return addPolyline(options, false);
+  }
+
+  /**
+   * Adds a polyline. With {@code levelOfDetail}, simplified versions of the polyline are shown at
+   * low zoom levels once they have been computed.
+   */
+  public Polyline addPolyline(PolylineOptions options, boolean levelOfDetail) {
+    if (mGoogleMap == null) {
+      return null;
+    }
+
+    Polyline polyline = mGoogleMap.addPolyline(options);
+    overlayRegistry.add(polyline);
+
+    if (levelOfDetail) {
+      getPolylineLevelOfDetail().add(polyline, options.getPoints());
+    }
+
+    return polyline;
+  }
+
+  /**
+   * Returns the points a polyline was added with. Unlike {@link Polyline#getPoints}, these are not
+   * the simplified points shown at low zoom levels.
+   */
+  public List<LatLng> getPolylinePoints(Polyline polyline) {
+    List<LatLng> points =
+        polylineLevelOfDetail != null ? polylineLevelOfDetail.getPoints(polyline.getId()) : null;
+    return points != null ? points : polyline.getPoints();
+  }
+
+  /** Returns whether a JS polyline options map enables zoom-dependent simplification. */
+  public static boolean isLevelOfDetailEnabled(Map<String, Object> optionsMap) {
+    return CollectionUtil.getBool("levelOfDetail", optionsMap, false);
+  }
+
+  private PolylineLevelOfDetail getPolylineLevelOfDetail() {
+    if (polylineLevelOfDetail == null) {
+      polylineLevelOfDetail = new PolylineLevelOfDetail(mGoogleMap, overlayRegistry);
+      addOnCameraIdleListener(polylineLevelOfDetail::update);
+    }
+    return polylineLevelOfDetail;
+  }
+
+  /**
+   * Builds polyline options from a JS options map, or returns null if it has no points. Does not
+   * need to run on the UI thread.
+   */
+  @Nullable
+  public static PolylineOptions createPolylineOptions(Map<String, Object> optionsMap) {
     float width = Double.valueOf(CollectionUtil.getDouble("width", optionsMap, 0)).floatValue();
     boolean clickable = CollectionUtil.getBool("clickable", optionsMap, false);
     boolean visible = CollectionUtil.getBool("visible", optionsMap, true);
 
-    ArrayList latLngArr = (ArrayList) optionsMap.get("points");
+    List<LatLng> points = createLatLngs(optionsMap.get("points"));
 
-    if (latLngArr == null) {
+    if (points == null) {
       return null;
     }
 
     PolylineOptions options = new PolylineOptions();
-    for (int i = 0; i < latLngArr.size(); i++) {
-      Map<String, Object> latLngMap = (Map<String, Object>) latLngArr.get(i);
-      LatLng latLng = createLatLng(latLngMap);
-      options.add(latLng);
-    }
+    options.addAll(points);
 
     String color = CollectionUtil.getString("color", optionsMap);
     if (color != null) {
@@ -203,10 +441,7 @@ public class MapViewController {
     options.clickable(clickable);
     options.visible(visible);
 
-    Polyline polyline = mGoogleMap.addPolyline(options);
-    polylineList.add(polyline);
-
-    return polyline;
+    return options;
   }
 
   public Polygon addPolygon(Map<String, Object> optionsMap) {
@@ -222,30 +457,26 @@ public class MapViewController {
     boolean geodesic = CollectionUtil.getBool("geodesic", optionsMap, false);
     boolean visible = CollectionUtil.getBool("visible", optionsMap, true);
 
-    ArrayList latLngArr = (ArrayList) optionsMap.get("points");
+    List<LatLng> points = createLatLngs(optionsMap.get("points"));
 
     PolygonOptions options = new PolygonOptions();
-    for (int i = 0; i < latLngArr.size(); i++) {
-      Map<String, Object> latLngMap = (Map<String, Object>) latLngArr.get(i);
-      LatLng latLng = createLatLng(latLngMap);
-      options.add(latLng);
+    if (points != null) {
+      options.addAll(points);
     }
 
-    ArrayList holesArr = (ArrayList) optionsMap.get("holes");
-
-    for (int i = 0; i < holesArr.size(); i++) {
-      ArrayList arr = (ArrayList) holesArr.get(i);
-
-      List<LatLng> listHoles = new ArrayList<>();
-
-      for (int j = 0; j < arr.size(); j++) {
-        Map<String, Object> latLngMap = (Map<String, Object>) arr.get(j);
-        LatLng latLng = createLatLng(latLngMap);
+    Object holes = optionsMap.get("holes");
+    if (holes != null && !(holes instanceof List)) {
+      throw new IllegalArgumentException("Holes must be an array");
+    }
+    List<?> holesArr = (List<?>) holes;
 
-        listHoles.add(latLng);
+    if (holesArr != null) {
+      for (int i = 0; i < holesArr.size(); i++) {
+        List<LatLng> hole = createLatLngs(holesArr.get(i));
+        if (hole != null) {
+          options.addHole(hole);
+        }
       }
-
-      options.addHole(listHoles);
     }
 
     if (fillColor != null) {
@@ -262,7 +493,8 @@ public class MapViewController {
     options.clickable(clickable);
 
     Polygon polygon = mGoogleMap.addPolygon(options);
-    polygonList.add(polygon);
+    overlayRegistry.add(polygon);
+    geofenceIndex.addPolygon(polygon.getId(), options.getPoints(), options.getHoles());
 
     return polygon;
   }
@@ -292,7 +524,7 @@ public class MapViewController {
 
     GroundOverlayOptions options = new GroundOverlayOptions();
     if (imagePath != null && !imagePath.isEmpty()) {
-      BitmapDescriptor bitmapDescriptor = BitmapDescriptorFactory.fromAsset(imagePath);
+      BitmapDescriptor bitmapDescriptor = BitmapDescriptorCache.fromAsset(imagePath);
       options.image(bitmapDescriptor);
     }
     options.position(new LatLng(lat, lng), width, height);
@@ -300,80 +532,152 @@ public class MapViewController {
     options.clickable(clickable);
     options.visible(visible);
     GroundOverlay groundOverlay = mGoogleMap.addGroundOverlay(options);
-    groundOverlayList.add(groundOverlay);
+    overlayRegistry.add(groundOverlay);
     return groundOverlay;
   }
 
   public void removeMarker(String id) {
-    UiThreadUtil.runOnUiThread(
-        () -> {
-          for (Marker m : markerList) {
-            if (m.getId().equals(id)) {
-              m.remove();
-              markerList.remove(m);
-              return;
-            }
-          }
-        });
+    UiThreadUtil.runOnUiThread(() -> overlayRegistry.removeMarker(id));
   }
 
   public void removePolyline(String id) {
-    for (Polyline p : polylineList) {
-      if (p.getId().equals(id)) {
-        p.remove();
-        polylineList.remove(p);
-        return;
-      }
+    overlayRegistry.removePolyline(id);
+    if (polylineLevelOfDetail != null) {
+      polylineLevelOfDetail.remove(id);
     }
   }
 
   public void removePolygon(String id) {
-    for (Polygon p : polygonList) {
-      if (p.getId().equals(id)) {
-        p.remove();
-        polygonList.remove(p);
-        return;
-      }
-    }
+    overlayRegistry.removePolygon(id);
+    geofenceIndex.remove(id);
   }
 
   public void removeCircle(String id) {
-    for (Circle c : circleList) {
-      if (c.getId().equals(id)) {
-        c.remove();
-        circleList.remove(c);
-        return;
-      }
-    }
+    overlayRegistry.removeCircle(id);
+    geofenceIndex.remove(id);
   }
 
   public void removeGroundOverlay(String id) {
-    for (GroundOverlay g : groundOverlayList) {
-      if (g.getId().equals(id)) {
-        g.remove();
-        groundOverlayList.remove(g);
-        return;
+    overlayRegistry.removeGroundOverlay(id);
+  }
+
+  /** Removes the overlays with the given ids, of any type. Returns the number removed. */
+  public int removeOverlays(List<String> ids) {
+    int removed = 0;
+    for (String id : ids) {
+      if (overlayRegistry.remove(id)) {
+        removed++;
       }
+      if (polylineLevelOfDetail != null) {
+        polylineLevelOfDetail.remove(id);
+      }
+      geofenceIndex.remove(id);
     }
+    return removed;
   }
 
-  public void setMapStyle(String url) {
-    Executors.newSingleThreadExecutor()
-        .execute(
-            () -> {
-              try {
-                style = fetchJsonFromUrl(url);
-              } catch (IOException e) {
-                throw new RuntimeException(e);
-              }
+  public int getOverlayCount() {
+    return overlayRegistry.size();
+  }
+
+  public OverlayRegistry getOverlayRegistry() {
+    return overlayRegistry;
+  }
+
+  /** Returns the index of the polygons and circles on the map, which can be used on any thread. */
+  public GeofenceIndex getGeofenceIndex() {
+    return geofenceIndex;
+  }
+
+  @Nullable
+  private MarkerClusterer getMarkerClusterer() {
+    if (markerClusterer == null && mGoogleMap != null) {
+      markerClusterer = new MarkerClusterer(mGoogleMap);
+      addOnCameraIdleListener(markerClusterer::onCameraIdle);
+    }
+    return markerClusterer;
+  }
+
+  /** Configures clustering of the markers added with {@link #addClusteredMarker}. */
+  public void setClusteringOptions(Map<String, Object> optionsMap) {
+    MarkerClusterer clusterer = getMarkerClusterer();
+    if (clusterer == null) {
+      return;
+    }
+
+    clusterer.setOptions(
+        CollectionUtil.getBool("enabled", optionsMap, true),
+        CollectionUtil.getDouble("radius", optionsMap, MarkerClusterer.DEFAULT_RADIUS_DP),
+        CollectionUtil.getInt(
+            "minClusterSize", optionsMap, MarkerClusterer.DEFAULT_MIN_CLUSTER_SIZE));
+  }
+
+  /**
+   * Adds a marker managed by the clusterer. Returns a stable id for the marker, or null if the map
+   * is not ready.
+   */
+  @Nullable
+  public String addClusteredMarker(MarkerOptions options) {
+    MarkerClusterer clusterer = getMarkerClusterer();
+    if (clusterer == null) {
+      return null;
+    }
+
+    return clusterer.addItem(options);
+  }
 
-              Activity activity = activitySupplier.get();
-              if (activity != null) {
-                activity.runOnUiThread(
-                    () -> {
-                      MapStyleOptions options = new MapStyleOptions(style);
-                      mGoogleMap.setMapStyle(options);
-                    });
+  public boolean removeClusteredMarker(String id) {
+    return markerClusterer != null && markerClusterer.removeItem(id);
+  }
+
+  public void clearClusteredMarkers() {
+    if (markerClusterer != null) {
+      markerClusterer.clear();
+    }
+  }
+
+  @Nullable
+  private VirtualMarkerLayer getVirtualMarkerLayer() {
+    if (virtualMarkerLayer == null && mGoogleMap != null) {
+      virtualMarkerLayer = new VirtualMarkerLayer(mGoogleMap);
+      addOnCameraIdleListener(virtualMarkerLayer::refresh);
+    }
+    return virtualMarkerLayer;
+  }
+
+  /**
+   * Adds markers that are only created on the map while they are in or near the visible region.
+   * Returns their stable ids, or an empty list if the map is not ready.
+   */
+  public List<String> addVirtualMarkers(List<VirtualMarkerLayer.Definition> definitions) {
+    VirtualMarkerLayer layer = getVirtualMarkerLayer();
+    if (layer == null) {
+      return new ArrayList<>();
+    }
+
+    return layer.add(definitions);
+  }
+
+  public int removeVirtualMarkers(List<String> ids) {
+    return virtualMarkerLayer != null ? virtualMarkerLayer.remove(ids) : 0;
+  }
+
+  public void clearVirtualMarkers() {
+    if (virtualMarkerLayer != null) {
+      virtualMarkerLayer.clear();
+    }
+  }
+
+  /** Applies the style at {@code url}, loaded through the shared {@link MapStyleLoader}. */
+  public void setMapStyle(String url) {
+    styleUrl = url;
+    MapStyleLoader.getInstance(activitySupplier.get())
+        .load(
+            url,
+            options -> {
+              // Ignores styles that were replaced by a later call while loading.
+              if (mGoogleMap != null && url.equals(styleUrl)) {
+                mGoogleMap.setMapStyle(options);
               }
             });
   }
@@ -519,6 +823,43 @@ public class MapViewController {
     }
 
     mGoogleMap.clear();
+    overlayRegistry.clear();
+    markerAnimator.cancelAll();
+    geofenceIndex.clear();
+    if (markerClusterer != null) {
+      markerClusterer.onMapCleared();
+    }
+    if (virtualMarkerLayer != null) {
+      virtualMarkerLayer.onMapCleared();
+    }
+    if (polylineLevelOfDetail != null) {
+      polylineLevelOfDetail.onMapCleared();
+    }
+  }
+
+  /**
+   * Removes everything a React view configured, so that the map can be shown by another view:
+   * overlays, clustered and virtual markers with their options, style, padding, zoom limits, map
+   * type, layers, camera and UI settings.
+   */
+  public void resetForReuse() {
+    if (mGoogleMap == null) {
+      return;
+    }
+
+    // Also forgets the items of the clusterer and the virtual marker layer.
+    clearMapView();
+    if (markerClusterer != null) {
+      markerClusterer.setOptions(
+          false, MarkerClusterer.DEFAULT_RADIUS_DP, MarkerClusterer.DEFAULT_MIN_CLUSTER_SIZE);
+    }
+    styleUrl = null;
+    mGoogleMap.setMapStyle(null);
+    mGoogleMap.setPadding(0, 0, 0, 0);
+    mGoogleMap.resetMinMaxZoomPreference();
+    if (initialState != null) {
+      initialState.restore(mGoogleMap);
+    }
   }
 
   public void resetMinMaxZoomLevel() {
@@ -544,30 +885,44 @@ public class MapViewController {
     }
   }
 
-  private String fetchJsonFromUrl(String urlString) throws IOException {
-    URL url = new URL(urlString);
-    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-    connection.setRequestMethod("GET");
+  /**
+   * Reads points sent from JS as an encoded polyline string, a flat {@code [lat, lng, ...]} number
+   * array or an array of {@code {lat, lng}} maps. Returns null if there are no points.
+   *
+   * @throws IllegalArgumentException if the points are malformed.
+   */
+  @Nullable
+  private static List<LatLng> createLatLngs(@Nullable Object value) {
+    try {
+      return readLatLngs(value);
+    } catch (ClassCastException | NullPointerException e) {
+      // A list mixing numbers and maps, or a map without lat or lng.
+      throw new IllegalArgumentException("Malformed points", e);
+    }
+  }
 
-    int responseCode = connection.getResponseCode();
-    if (responseCode == HttpURLConnection.HTTP_OK) {
-      InputStream inputStream = connection.getInputStream();
-      BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-      StringBuilder stringBuilder = new StringBuilder();
-      String line;
-      while ((line = reader.readLine()) != null) {
-        stringBuilder.append(line);
-      }
-      reader.close();
-      inputStream.close();
-      return stringBuilder.toString();
-    } else {
-      // Handle error response
-      throw new IOException("Error response: " + responseCode);
+  @Nullable
+  private static List<LatLng> readLatLngs(@Nullable Object value) {
+    if (value instanceof String) {
+      return GeometryUtil.decodePolyline((String) value);
+    }
+    if (!(value instanceof List)) {
+      return null;
+    }
+
+    List<?> list = (List<?>) value;
+    if (!list.isEmpty() && list.get(0) instanceof Number) {
+      return GeometryUtil.getLatLngsFromPackedList(list);
+    }
+
+    List<LatLng> points = new ArrayList<>(list.size());
+    for (Object latLngMap : list) {
+      points.add(createLatLng((Map<String, Object>) latLngMap));
     }
+    return points;
   }
 
-  private LatLng createLatLng(Map<String, Object> map) {
+  private static LatLng createLatLng(Map<String, Object> map) {
     Double lat = null;
     Double lng = null;
     if (map.containsKey(Constants.LAT_FIELD_KEY) && map.containsKey(Constants.LNG_FIELD_KEY)) {
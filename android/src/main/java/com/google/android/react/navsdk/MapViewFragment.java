@@ -56,6 +56,7 @@ public class MapViewFragment extends SupportMapFragment
   private List<Circle> circleList = new ArrayList<>();
   private int viewTag; // React native view tag.
   private ReactApplicationContext reactContext;
+  @Nullable private Runnable onMapReadyListener;
 
   public MapViewFragment(ReactApplicationContext reactContext, int viewTag) {
     this.reactContext = reactContext;
@@ -81,6 +82,10 @@ public class MapViewFragment extends SupportMapFragment
             // Setup map listeners with the provided callback
             mMapViewController.setupMapListeners(MapViewFragment.this);
 
+            if (onMapReadyListener != null) {
+              onMapReadyListener.run();
+            }
+
             emitEvent("onMapReady", null);
           }
         });
@@ -96,9 +101,22 @@ public class MapViewFragment extends SupportMapFragment
     emitEvent("onMarkerClick", ObjectTranslationUtil.getMapFromMarker(marker));
   }
 
+  @Override
+  public void onClusterClick(WritableMap cluster) {
+    emitEvent("onClusterClick", cluster);
+  }
+
+  @Override
+  public void onMarkerClick(Marker marker, String markerId) {
+    emitEvent("onMarkerClick", ObjectTranslationUtil.getMapFromMarker(marker, markerId));
+  }
+
   @Override
   public void onPolylineClick(Polyline polyline) {
-    emitEvent("onPolylineClick", ObjectTranslationUtil.getMapFromPolyline(polyline));
+    emitEvent(
+        "onPolylineClick",
+        ObjectTranslationUtil.getMapFromPolyline(
+            polyline, mMapViewController.getPolylinePoints(polyline)));
   }
 
   @Override
@@ -142,8 +160,27 @@ public class MapViewFragment extends SupportMapFragment
     return mGoogleMap;
   }
 
+  public void setOnMapReadyListener(@Nullable Runnable listener) {
+    this.onMapReadyListener = listener;
+  }
+
+  public void setViewTag(int viewTag) {
+    this.viewTag = viewTag;
+    if (mMapViewController != null) {
+      emitEvent("onMapReady", null);
+    }
+  }
+
+  public void prepareForReuse() {
+    viewTag = View.NO_ID;
+    if (mMapViewController != null) {
+      mMapViewController.resetForReuse();
+    }
+  }
+
   private void emitEvent(String eventName, @Nullable WritableMap data) {
-    if (reactContext != null) {
+    // Parked fragments are not attached to a React view.
+    if (reactContext != null && viewTag != View.NO_ID) {
       EventDispatcher dispatcher =
           UIManagerHelper.getEventDispatcherForReactTag(reactContext, viewTag);
 
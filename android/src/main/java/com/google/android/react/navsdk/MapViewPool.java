@@ -0,0 +1,260 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.app.Activity;
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
+import androidx.fragment.app.FragmentManager;
+import com.facebook.react.bridge.ReactApplicationContext;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps map and navigation fragments alive between map views, so that a newly mounted view gets a
+ * fragment whose map is already initialized. Fragments are created while the main thread is idle,
+ * one at a time, and fragments of unmounted views are recycled.
+ *
+ * <p>Each fragment lives in its own container. Unused containers are parked in an invisible layout
+ * behind the React root view and moved into a {@link NavViewLayout} when they are handed out, so
+ * the fragment never has to be moved to another container. The pool is disabled until {@link
+ * #configure} is called with a size above zero. Must be used on the UI thread.
+ */
+public class MapViewPool {
+  /** A fragment together with the container it was added to. */
+  public static final class Slot {
+    private final FrameLayout mContainer;
+    private final IMapViewFragment mFragment;
+    private final CustomTypes.FragmentType mFragmentType;
+
+    Slot(FrameLayout container, IMapViewFragment fragment, CustomTypes.FragmentType fragmentType) {
+      mContainer = container;
+      mFragment = fragment;
+      mFragmentType = fragmentType;
+    }
+
+    public IMapViewFragment getFragment() {
+      return mFragment;
+    }
+  }
+
+  private final ReactApplicationContext mReactContext;
+  private final Deque<Slot> mMapSlots = new ArrayDeque<>();
+  private final Deque<Slot> mNavSlots = new ArrayDeque<>();
+  private int mMaxMapSlots = 0;
+  private int mMaxNavSlots = 0;
+  @Nullable private FrameLayout mParkingLayout;
+  private boolean mIsIdleHandlerQueued = false;
+
+  public MapViewPool(ReactApplicationContext reactContext) {
+    mReactContext = reactContext;
+  }
+
+  public boolean isEnabled() {
+    return mMaxMapSlots > 0 || mMaxNavSlots > 0;
+  }
+
+  /**
+   * Sets how many unused fragments of each type are kept. Missing fragments are created when the
+   * main thread is idle, and fragments above the new sizes are removed.
+   */
+  public void configure(int maxMapSlots, int maxNavSlots) {
+    mMaxMapSlots = Math.max(0, maxMapSlots);
+    mMaxNavSlots = Math.max(0, maxNavSlots);
+
+    trim(mMapSlots, mMaxMapSlots);
+    trim(mNavSlots, mMaxNavSlots);
+    scheduleFill();
+  }
+
+  /**
+   * Moves a fragment of the given type into {@code parent}. A parked fragment is used if there is
+   * one, otherwise a new fragment is added to a new container.
+   */
+  public Slot obtain(
+      FragmentActivity activity, CustomTypes.FragmentType fragmentType, ViewGroup parent) {
+    Deque<Slot> slots = getSlots(fragmentType);
+    Slot slot = isParkedIn(activity) ? slots.poll() : null;
+    if (slot != null) {
+      moveContainer(slot, parent);
+    } else {
+      slot = createSlot(activity, fragmentType, parent);
+    }
+    scheduleFill();
+    return slot;
+  }
+
+  /**
+   * Parks the fragment of an unmounted view for reuse. If the pool is full, or the fragment belongs
+   * to another activity, the fragment is removed instead.
+   */
+  public void recycle(FragmentActivity activity, Slot slot) {
+    Deque<Slot> slots = getSlots(slot.mFragmentType);
+    FragmentManager fragmentManager = activity.getSupportFragmentManager();
+    if (slots.size() < getMaxSlots(slot.mFragmentType)
+        && slot.mFragment.isAdded()
+        && !fragmentManager.isStateSaved()
+        && ((Fragment) slot.mFragment).getActivity() == activity) {
+      slot.mFragment.prepareForReuse();
+      moveContainer(slot, getParkingLayout(activity));
+      slots.add(slot);
+      return;
+    }
+
+    removeSlot(slot);
+  }
+
+  /** Removes all parked fragments. */
+  public void clear() {
+    trim(mMapSlots, 0);
+    trim(mNavSlots, 0);
+    if (mParkingLayout != null) {
+      removeFromParent(mParkingLayout);
+      mParkingLayout = null;
+    }
+  }
+
+  private void scheduleFill() {
+    if (mIsIdleHandlerQueued || !needsFill()) {
+      return;
+    }
+    mIsIdleHandlerQueued = true;
+    Looper.myQueue()
+        .addIdleHandler(
+            () -> {
+              // Creates one fragment per idle pass to keep frames short.
+              boolean keepQueued = fillOne();
+              mIsIdleHandlerQueued = keepQueued;
+              return keepQueued;
+            });
+  }
+
+  private boolean needsFill() {
+    return mMapSlots.size() < mMaxMapSlots || mNavSlots.size() < mMaxNavSlots;
+  }
+
+  /** Creates one missing fragment. Returns whether more fragments are missing. */
+  private boolean fillOne() {
+    Activity currentActivity = mReactContext.getCurrentActivity();
+    if (!(currentActivity instanceof FragmentActivity) || currentActivity.isFinishing()) {
+      return false;
+    }
+    FragmentActivity activity = (FragmentActivity) currentActivity;
+    if (activity.getSupportFragmentManager().isStateSaved()) {
+      // Filled again when a view is mounted or the pool is configured.
+      return false;
+    }
+
+    if (!isParkedIn(activity)) {
+      // Fragments of a previous activity were destroyed with it.
+      mMapSlots.clear();
+      mNavSlots.clear();
+      mParkingLayout = null;
+    }
+
+    if (mMapSlots.size() < mMaxMapSlots) {
+      mMapSlots.add(
+          createSlot(activity, CustomTypes.FragmentType.MAP, getParkingLayout(activity)));
+    } else if (mNavSlots.size() < mMaxNavSlots) {
+      mNavSlots.add(
+          createSlot(activity, CustomTypes.FragmentType.NAVIGATION, getParkingLayout(activity)));
+    }
+    return needsFill();
+  }
+
+  private Slot createSlot(
+      FragmentActivity activity, CustomTypes.FragmentType fragmentType, ViewGroup parent) {
+    FrameLayout container = new FrameLayout(activity);
+    container.setId(View.generateViewId());
+    parent.addView(container, createLayoutParams());
+
+    IMapViewFragment fragment;
+    if (fragmentType == CustomTypes.FragmentType.MAP) {
+      fragment = new MapViewFragment(mReactContext, View.NO_ID);
+    } else {
+      fragment = new NavViewFragment(mReactContext, View.NO_ID);
+    }
+    activity
+        .getSupportFragmentManager()
+        .beginTransaction()
+        .add(container.getId(), (Fragment) fragment)
+        .commitNowAllowingStateLoss();
+    return new Slot(container, fragment, fragmentType);
+  }
+
+  private void removeSlot(Slot slot) {
+    Fragment fragment = (Fragment) slot.mFragment;
+    if (fragment.isAdded() && !fragment.getParentFragmentManager().isDestroyed()) {
+      fragment
+          .getParentFragmentManager()
+          .beginTransaction()
+          .remove(fragment)
+          .commitNowAllowingStateLoss();
+    }
+    removeFromParent(slot.mContainer);
+  }
+
+  private void trim(Deque<Slot> slots, int maxSize) {
+    while (slots.size() > maxSize) {
+      removeSlot(slots.pollLast());
+    }
+  }
+
+  private boolean isParkedIn(Activity activity) {
+    return mParkingLayout != null && mParkingLayout.getContext() == activity;
+  }
+
+  private FrameLayout getParkingLayout(FragmentActivity activity) {
+    if (!isParkedIn(activity)) {
+      FrameLayout parkingLayout = new FrameLayout(activity);
+      parkingLayout.setVisibility(View.INVISIBLE);
+      parkingLayout.setImportantForAccessibility(
+          View.IMPORTANT_FOR_ACCESSIBILITY_NO_HIDE_DESCENDANTS);
+      ViewGroup content = activity.findViewById(android.R.id.content);
+      // Added behind the React root view.
+      content.addView(parkingLayout, 0, createLayoutParams());
+      mParkingLayout = parkingLayout;
+    }
+    return mParkingLayout;
+  }
+
+  private Deque<Slot> getSlots(CustomTypes.FragmentType fragmentType) {
+    return fragmentType == CustomTypes.FragmentType.MAP ? mMapSlots : mNavSlots;
+  }
+
+  private int getMaxSlots(CustomTypes.FragmentType fragmentType) {
+    return fragmentType == CustomTypes.FragmentType.MAP ? mMaxMapSlots : mMaxNavSlots;
+  }
+
+  private static void moveContainer(Slot slot, ViewGroup parent) {
+    removeFromParent(slot.mContainer);
+    parent.addView(slot.mContainer, createLayoutParams());
+  }
+
+  private static void removeFromParent(View view) {
+    if (view.getParent() instanceof ViewGroup) {
+      ((ViewGroup) view.getParent()).removeView(view);
+    }
+  }
+
+  private static FrameLayout.LayoutParams createLayoutParams() {
+    return new FrameLayout.LayoutParams(
+        ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+  }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.SystemClock;
+import android.view.Choreographer;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.Marker;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Moves markers smoothly to new positions. All running animations of a map share one {@link
+ * Choreographer} frame callback, which is only posted while at least one animation is running.
+ * Must be used on the UI thread.
+ */
+public class MarkerAnimator {
+  private static final class Animation {
+    final double startLat;
+    final double startLng;
+    final double endLat;
+    final double endLng;
+    final long startTimeMs;
+    final long durationMs;
+
+    Animation(LatLng start, LatLng end, long startTimeMs, long durationMs) {
+      this.startLat = start.latitude;
+      this.startLng = start.longitude;
+      this.endLat = end.latitude;
+      // Moves the short way around when crossing the antimeridian.
+      double deltaLng = end.longitude - start.longitude;
+      if (deltaLng > 180) {
+        deltaLng -= 360;
+      } else if (deltaLng < -180) {
+        deltaLng += 360;
+      }
+      this.endLng = start.longitude + deltaLng;
+      this.startTimeMs = startTimeMs;
+      this.durationMs = durationMs;
+    }
+  }
+
+  private final OverlayRegistry mOverlayRegistry;
+  private final Map<String, Animation> mAnimations = new HashMap<>();
+  private boolean mFrameCallbackPosted = false;
+
+  private final Choreographer.FrameCallback mFrameCallback = frameTimeNanos -> onFrame();
+
+  public MarkerAnimator(OverlayRegistry overlayRegistry) {
+    mOverlayRegistry = overlayRegistry;
+  }
+
+  /**
+   * Starts moving the marker from its current position to {@code position}. A running animation
+   * of the same marker is replaced, continuing from where the marker currently is. Returns false
+   * if there is no marker with the given id.
+   */
+  public boolean animateTo(String id, LatLng position, long durationMs) {
+    Marker marker = mOverlayRegistry.getMarker(id);
+    if (marker == null) {
+      return false;
+    }
+
+    if (durationMs <= 0) {
+      mAnimations.remove(id);
+      marker.setPosition(position);
+      return true;
+    }
+
+    mAnimations.put(
+        id, new Animation(marker.getPosition(), position, SystemClock.uptimeMillis(), durationMs));
+    if (!mFrameCallbackPosted) {
+      mFrameCallbackPosted = true;
+      Choreographer.getInstance().postFrameCallback(mFrameCallback);
+    }
+    return true;
+  }
+
+  /** Stops the animation of the marker, leaving it where it currently is. */
+  public void cancel(String id) {
+    mAnimations.remove(id);
+  }
+
+  public void cancelAll() {
+    mAnimations.clear();
+    if (mFrameCallbackPosted) {
+      mFrameCallbackPosted = false;
+      Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+    }
+  }
+
+  private void onFrame() {
+    mFrameCallbackPosted = false;
+    long now = SystemClock.uptimeMillis();
+
+    Iterator<Map.Entry<String, Animation>> iterator = mAnimations.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, Animation> entry = iterator.next();
+      Marker marker = mOverlayRegistry.getMarker(entry.getKey());
+      if (marker == null) {
+        // The marker was removed while it was moving.
+        iterator.remove();
+        continue;
+      }
+
+      Animation animation = entry.getValue();
+      double fraction = Math.min(1, (double) (now - animation.startTimeMs) / animation.durationMs);
+      double lat = animation.startLat + (animation.endLat - animation.startLat) * fraction;
+      double lng = animation.startLng + (animation.endLng - animation.startLng) * fraction;
+      if (lng > 180) {
+        lng -= 360;
+      } else if (lng < -180) {
+        lng += 360;
+      }
+      marker.setPosition(new LatLng(lat, lng));
+
+      if (fraction >= 1) {
+        iterator.remove();
+      }
+    }
+
+    if (!mAnimations.isEmpty()) {
+      mFrameCallbackPosted = true;
+      Choreographer.getInstance().postFrameCallback(mFrameCallback);
+    }
+  }
+}
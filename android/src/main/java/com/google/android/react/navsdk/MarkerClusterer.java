@@ -0,0 +1,413 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Grid-based clustering of markers. Items are bucketed into square screen-space cells at the
+ * current zoom level; cells holding at least {@code minClusterSize} items are shown as a single
+ * cluster marker and all other items are shown as regular markers.
+ *
+ * <p>Clusters are recomputed on a background thread when the camera becomes idle or items change.
+ * Only the resulting cluster and leaf markers are added to the map. They are owned by the clusterer
+ * and kept out of the {@link OverlayRegistry}, so they are not visible to the overlay APIs. Must be
+ * used on the UI thread.
+ */
+public class MarkerClusterer {
+  public static final double DEFAULT_RADIUS_DP = 60;
+  public static final int DEFAULT_MIN_CLUSTER_SIZE = 4;
+
+  /** Size of the world in dp at zoom level 0. */
+  private static final double WORLD_SIZE_DP = 256;
+
+  private static final ExecutorService sExecutor = Executors.newSingleThreadExecutor();
+
+  private static final class Item {
+    final String id;
+    final MarkerOptions options;
+    final LatLng position;
+    final double worldX;
+    final double worldY;
+
+    Item(String id, MarkerOptions options) {
+      this.id = id;
+      this.options = options;
+      this.position = options.getPosition();
+      this.worldX = (position.longitude + 180) / 360;
+      double sinLat = Math.sin(Math.toRadians(position.latitude));
+      sinLat = Math.max(-0.9999, Math.min(0.9999, sinLat));
+      this.worldY = 0.5 - Math.log((1 + sinLat) / (1 - sinLat)) / (4 * Math.PI);
+    }
+  }
+
+  private static final class Cluster {
+    final String key;
+    final List<Item> items = new ArrayList<>();
+    double minLat = Double.MAX_VALUE;
+    double minLng = Double.MAX_VALUE;
+    double maxLat = -Double.MAX_VALUE;
+    double maxLng = -Double.MAX_VALUE;
+
+    Cluster(String key) {
+      this.key = key;
+    }
+
+    void add(Item item) {
+      items.add(item);
+      minLat = Math.min(minLat, item.position.latitude);
+      minLng = Math.min(minLng, item.position.longitude);
+      maxLat = Math.max(maxLat, item.position.latitude);
+      maxLng = Math.max(maxLng, item.position.longitude);
+    }
+
+    LatLng getCentroid() {
+      double lat = 0;
+      double lng = 0;
+      for (Item item : items) {
+        lat += item.position.latitude;
+        lng += item.position.longitude;
+      }
+      return new LatLng(lat / items.size(), lng / items.size());
+    }
+  }
+
+  private static final class Result {
+    final List<Cluster> clusters = new ArrayList<>();
+    final List<Item> leaves = new ArrayList<>();
+  }
+
+  private final GoogleMap mGoogleMap;
+  private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+  private final Runnable mUpdateRunnable = this::update;
+
+  private final Map<String, Item> mItems = new LinkedHashMap<>();
+  private int mNextItemId = 0;
+
+  private boolean mEnabled = false;
+  private double mRadiusDp = DEFAULT_RADIUS_DP;
+  private int mMinClusterSize = DEFAULT_MIN_CLUSTER_SIZE;
+
+  /** Incremented for each computation so results of outdated computations can be dropped. */
+  private int mGeneration = 0;
+
+  private final Map<String, Marker> mLeafMarkers = new HashMap<>();
+  private final Map<String, Marker> mClusterMarkers = new HashMap<>();
+  private final Map<String, String> mItemIdsByMarkerId = new HashMap<>();
+  private final Map<String, Cluster> mClustersByMarkerId = new HashMap<>();
+
+  public MarkerClusterer(GoogleMap googleMap) {
+    mGoogleMap = googleMap;
+  }
+
+  /**
+   * Configures clustering. When disabled, every item is shown as a regular marker.
+   *
+   * @param radiusDp size of the grid cells in dp.
+   * @param minClusterSize minimum number of items in a cell for them to be clustered.
+   */
+  public void setOptions(boolean enabled, double radiusDp, int minClusterSize) {
+    mEnabled = enabled;
+    mRadiusDp = radiusDp > 0 ? radiusDp : DEFAULT_RADIUS_DP;
+    mMinClusterSize = Math.max(2, minClusterSize);
+    requestUpdate();
+  }
+
+  /** Adds an item and returns its id, which stays the same however the item is displayed. */
+  public String addItem(MarkerOptions options) {
+    String id = "clusterItem" + mNextItemId++;
+    mItems.put(id, new Item(id, options));
+    requestUpdate();
+    return id;
+  }
+
+  public boolean removeItem(String id) {
+    if (mItems.remove(id) == null) {
+      return false;
+    }
+    requestUpdate();
+    return true;
+  }
+
+  public int getItemCount() {
+    return mItems.size();
+  }
+
+  /** Removes all items and the markers showing them. */
+  public void clear() {
+    mItems.clear();
+    mGeneration++;
+    mMainHandler.removeCallbacks(mUpdateRunnable);
+    for (Marker marker : mLeafMarkers.values()) {
+      marker.remove();
+    }
+    for (Marker marker : mClusterMarkers.values()) {
+      marker.remove();
+    }
+    forgetMarkers();
+  }
+
+  /** Forgets the displayed markers without removing them, after the map has been cleared. */
+  public void onMapCleared() {
+    mItems.clear();
+    mGeneration++;
+    mMainHandler.removeCallbacks(mUpdateRunnable);
+    forgetMarkers();
+  }
+
+  private void forgetMarkers() {
+    mLeafMarkers.clear();
+    mClusterMarkers.clear();
+    mItemIdsByMarkerId.clear();
+    mClustersByMarkerId.clear();
+  }
+
+  public void onCameraIdle() {
+    requestUpdate();
+  }
+
+  /**
+   * Handles a tap on a marker shown by this clusterer.
+   *
+   * @return false if the marker does not belong to this clusterer.
+   */
+  public boolean onMarkerClick(Marker marker, INavigationViewCallback callback) {
+    Cluster cluster = mClustersByMarkerId.get(marker.getId());
+    if (cluster != null) {
+      callback.onClusterClick(getMapFromCluster(cluster, marker));
+      return true;
+    }
+
+    String itemId = mItemIdsByMarkerId.get(marker.getId());
+    if (itemId != null) {
+      callback.onMarkerClick(marker, itemId);
+      return true;
+    }
+
+    return false;
+  }
+
+  private void requestUpdate() {
+    // Coalesces changes made in the same frame, for example when many items are added at once.
+    mMainHandler.removeCallbacks(mUpdateRunnable);
+    mMainHandler.post(mUpdateRunnable);
+  }
+
+  private void update() {
+    final int generation = ++mGeneration;
+    final List<Item> items = new ArrayList<>(mItems.values());
+    final int zoom = (int) Math.floor(mGoogleMap.getCameraPosition().zoom);
+    final double radiusDp = mRadiusDp;
+    final int minClusterSize = mEnabled ? mMinClusterSize : Integer.MAX_VALUE;
+
+    sExecutor.execute(
+        () -> {
+          Result result = computeClusters(items, zoom, radiusDp, minClusterSize);
+          mMainHandler.post(
+              () -> {
+                if (generation == mGeneration) {
+                  apply(result);
+                }
+              });
+        });
+  }
+
+  private static Result computeClusters(
+      List<Item> items, int zoom, double radiusDp, int minClusterSize) {
+    Result result = new Result();
+    if (minClusterSize == Integer.MAX_VALUE) {
+      result.leaves.addAll(items);
+      return result;
+    }
+
+    double cellSize = radiusDp / (WORLD_SIZE_DP * Math.pow(2, zoom));
+    Map<Long, Cluster> cells = new HashMap<>();
+    for (Item item : items) {
+      long cellX = (long) Math.floor(item.worldX / cellSize);
+      long cellY = (long) Math.floor(item.worldY / cellSize);
+      long cellKey = (cellX << 32) | (cellY & 0xffffffffL);
+      Cluster cell = cells.get(cellKey);
+      if (cell == null) {
+        cell = new Cluster(zoom + "/" + cellX + "/" + cellY);
+        cells.put(cellKey, cell);
+      }
+      cell.add(item);
+    }
+
+    for (Cluster cell : cells.values()) {
+      if (cell.items.size() >= minClusterSize) {
+        result.clusters.add(cell);
+      } else {
+        result.leaves.addAll(cell.items);
+      }
+    }
+    return result;
+  }
+
+  private void apply(Result result) {
+    // Leaves: keep markers of items that are still leaves, add the rest.
+    Set<String> leafIds = new HashSet<>();
+    for (Item item : result.leaves) {
+      if (mItems.containsKey(item.id)) {
+        leafIds.add(item.id);
+      }
+    }
+    for (Map.Entry<String, Marker> entry : new ArrayList<>(mLeafMarkers.entrySet())) {
+      if (!leafIds.contains(entry.getKey())) {
+        removeMarker(entry.getValue());
+        mLeafMarkers.remove(entry.getKey());
+      }
+    }
+    for (Item item : result.leaves) {
+      if (leafIds.contains(item.id) && !mLeafMarkers.containsKey(item.id)) {
+        Marker marker = mGoogleMap.addMarker(item.options);
+        if (marker != null) {
+          mLeafMarkers.put(item.id, marker);
+          mItemIdsByMarkerId.put(marker.getId(), item.id);
+        }
+      }
+    }
+
+    // Clusters: a cluster is identified by its cell and size.
+    Map<String, Cluster> clusters = new HashMap<>();
+    for (Cluster cluster : result.clusters) {
+      clusters.put(cluster.key + "/" + cluster.items.size(), cluster);
+    }
+    for (Map.Entry<String, Marker> entry : new ArrayList<>(mClusterMarkers.entrySet())) {
+      Cluster cluster = clusters.get(entry.getKey());
+      if (cluster == null) {
+        removeMarker(entry.getValue());
+        mClusterMarkers.remove(entry.getKey());
+      } else {
+        // Refresh the members, which may have changed without changing the size.
+        Marker marker = entry.getValue();
+        mClustersByMarkerId.put(marker.getId(), cluster);
+        LatLng centroid = cluster.getCentroid();
+        if (!centroid.equals(marker.getPosition())) {
+          marker.setPosition(centroid);
+        }
+      }
+    }
+    for (Map.Entry<String, Cluster> entry : clusters.entrySet()) {
+      if (mClusterMarkers.containsKey(entry.getKey())) {
+        continue;
+      }
+      Cluster cluster = entry.getValue();
+      Marker marker =
+          mGoogleMap.addMarker(
+              new MarkerOptions()
+                  .position(cluster.getCentroid())
+                  .icon(getClusterIcon(cluster.items.size()))
+                  .anchor(0.5f, 0.5f));
+      if (marker != null) {
+        mClusterMarkers.put(entry.getKey(), marker);
+        mClustersByMarkerId.put(marker.getId(), cluster);
+      }
+    }
+  }
+
+  private void removeMarker(Marker marker) {
+    mItemIdsByMarkerId.remove(marker.getId());
+    mClustersByMarkerId.remove(marker.getId());
+    marker.remove();
+  }
+
+  private static WritableMap getMapFromCluster(Cluster cluster, Marker marker) {
+    WritableMap map = Arguments.createMap();
+    map.putString("id", marker.getId());
+    map.putMap("position", ObjectTranslationUtil.getMapFromLatLng(marker.getPosition()));
+    map.putInt("count", cluster.items.size());
+
+    WritableArray itemIds = Arguments.createArray();
+    for (Item item : cluster.items) {
+      itemIds.pushString(item.id);
+    }
+    map.putArray("itemIds", itemIds);
+
+    WritableMap bounds = Arguments.createMap();
+    bounds.putMap(
+        "northEast",
+        ObjectTranslationUtil.getMapFromLatLng(new LatLng(cluster.maxLat, cluster.maxLng)));
+    bounds.putMap(
+        "southWest",
+        ObjectTranslationUtil.getMapFromLatLng(new LatLng(cluster.minLat, cluster.minLng)));
+    map.putMap("bounds", bounds);
+    return map;
+  }
+
+  /** Returns the label shown for a cluster, bucketing large counts so icons can be reused. */
+  private static String getClusterLabel(int count) {
+    int[] buckets = {1000, 500, 200, 100, 50, 20, 10};
+    for (int bucket : buckets) {
+      if (count >= bucket) {
+        return bucket + "+";
+      }
+    }
+    return String.valueOf(count);
+  }
+
+  private static BitmapDescriptor getClusterIcon(int count) {
+    String label = getClusterLabel(count);
+    return BitmapDescriptorCache.getOrCreate("cluster:" + label, () -> createClusterIcon(label));
+  }
+
+  private static BitmapDescriptor createClusterIcon(String label) {
+    float density = Resources.getSystem().getDisplayMetrics().density;
+    int size = (int) (40 * density);
+    Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+    Canvas canvas = new Canvas(bitmap);
+
+    Paint circlePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    circlePaint.setColor(Color.WHITE);
+    canvas.drawCircle(size / 2f, size / 2f, size / 2f, circlePaint);
+    circlePaint.setColor(Color.parseColor("#1A73E8"));
+    canvas.drawCircle(size / 2f, size / 2f, size / 2f - 2 * density, circlePaint);
+
+    Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    textPaint.setColor(Color.WHITE);
+    textPaint.setTextSize(14 * density);
+    textPaint.setFakeBoldText(true);
+    textPaint.setTextAlign(Paint.Align.CENTER);
+    Rect textBounds = new Rect();
+    textPaint.getTextBounds(label, 0, label.length(), textBounds);
+    canvas.drawText(label, size / 2f, size / 2f + textBounds.height() / 2f, textPaint);
+
+    return BitmapDescriptorFactory.fromBitmap(bitmap);
+  }
+}
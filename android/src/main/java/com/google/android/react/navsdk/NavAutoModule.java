@@ -14,6 +14,7 @@
 package com.google.android.react.navsdk;
 
 import android.location.Location;
+import android.util.Pair;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.facebook.react.bridge.Arguments;
@@ -21,6 +22,7 @@ import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
@@ -31,9 +33,16 @@ import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
+import com.google.android.gms.maps.model.PolylineOptions;
 import com.google.android.libraries.navigation.StylingOptions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This exposes a series of methods that can be called directly from the React Native code. They
@@ -160,31 +169,87 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
         });
   }
 
+  @ReactMethod
+  public void updateMarker(String id, ReadableMap markerOptionsMap, final Promise promise) {
+    Map<String, Object> optionsMap = markerOptionsMap.toHashMap();
+    if (optionsMap.containsKey("position")
+        && ObjectTranslationUtil.getLatLngFromOptions(optionsMap, "position") == null) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE);
+      return;
+    }
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          Marker marker = mMapViewController.updateMarker(id, optionsMap);
+
+          promise.resolve(marker != null ? ObjectTranslationUtil.getMapFromMarker(marker) : null);
+        });
+  }
+
+  @ReactMethod
+  public void animateMarkerTo(
+      String id, ReadableMap position, double durationMs, final Promise promise) {
+    LatLng latLng = ObjectTranslationUtil.toLatLng(position.toHashMap());
+    if (latLng == null) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE);
+      return;
+    }
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          promise.resolve(mMapViewController.animateMarkerTo(id, latLng, (long) durationMs));
+        });
+  }
+
   @ReactMethod
   public void addPolyline(ReadableMap polylineOptionsMap, final Promise promise) {
+    Map<String, Object> optionsMap = polylineOptionsMap.toHashMap();
     UiThreadUtil.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Polyline polyline = mMapViewController.addPolyline(polylineOptionsMap.toHashMap());
+          Polyline polyline;
+          try {
+            polyline = mMapViewController.addPolyline(optionsMap);
+          } catch (IllegalArgumentException e) {
+            promise.reject(
+                JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+            return;
+          }
 
-          promise.resolve(ObjectTranslationUtil.getMapFromPolyline(polyline));
+          promise.resolve(
+              ObjectTranslationUtil.getResponseFromPolyline(
+                  mMapViewController, polyline, optionsMap));
         });
   }
 
   @ReactMethod
   public void addPolygon(ReadableMap polygonOptionsMap, final Promise promise) {
+    Map<String, Object> optionsMap = polygonOptionsMap.toHashMap();
     UiThreadUtil.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Polygon polygon = mMapViewController.addPolygon(polygonOptionsMap.toHashMap());
+          Polygon polygon;
+          try {
+            polygon = mMapViewController.addPolygon(optionsMap);
+          } catch (IllegalArgumentException e) {
+            promise.reject(
+                JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+            return;
+          }
 
-          promise.resolve(ObjectTranslationUtil.getMapFromPolygon(polygon));
+          promise.resolve(ObjectTranslationUtil.getResponseFromPolygon(polygon, optionsMap));
         });
   }
 
@@ -232,6 +297,295 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
         });
   }
 
+  @ReactMethod
+  public void addMarkers(ReadableArray markerOptionsArray, final Promise promise) {
+    List<Pair<MarkerOptions, String>> optionsList = new ArrayList<>(markerOptionsArray.size());
+    try {
+      for (int i = 0; i < markerOptionsArray.size(); i++) {
+        Map<String, Object> optionsMap = markerOptionsArray.getMap(i).toHashMap();
+        optionsList.add(
+            new Pair<>(
+                MapViewController.createMarkerOptionsWithoutIcon(optionsMap),
+                CollectionUtil.getString("imgPath", optionsMap)));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE, e);
+      return;
+    }
+
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          MapViewController controller = mMapViewController;
+          ChunkedUiTask.run(
+              optionsList,
+              options -> {
+                MapViewController.setMarkerIcon(options.first, options.second);
+                Marker marker = controller.addMarker(options.first);
+                return marker != null ? marker.getId() : null;
+              },
+              ids -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids)));
+        });
+  }
+
+  @ReactMethod
+  public void addPolylines(ReadableArray polylineOptionsArray, final Promise promise) {
+    List<Pair<PolylineOptions, Boolean>> optionsList =
+        new ArrayList<>(polylineOptionsArray.size());
+    try {
+      for (int i = 0; i < polylineOptionsArray.size(); i++) {
+        Map<String, Object> optionsMap = polylineOptionsArray.getMap(i).toHashMap();
+        optionsList.add(
+            new Pair<>(
+                MapViewController.createPolylineOptions(optionsMap),
+                MapViewController.isLevelOfDetailEnabled(optionsMap)));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+      return;
+    }
+
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          MapViewController controller = mMapViewController;
+          ChunkedUiTask.run(
+              optionsList,
+              options -> {
+                Polyline polyline =
+                    options.first != null
+                        ? controller.addPolyline(options.first, options.second)
+                        : null;
+                return polyline != null ? polyline.getId() : null;
+              },
+              ids -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids)));
+        });
+  }
+
+  @ReactMethod
+  public void removeMarkers(ReadableArray ids, final Promise promise) {
+    List<String> idList = NavViewModule.getStringListFromArray(ids);
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          OverlayRegistry registry = mMapViewController.getOverlayRegistry();
+          ChunkedUiTask.run(
+              idList,
+              registry::removeMarker,
+              results -> promise.resolve(ObjectTranslationUtil.countTrue(results)));
+        });
+  }
+
+  @ReactMethod
+  public void setClusteringOptions(ReadableMap options) {
+    Map<String, Object> optionsMap = options.toHashMap();
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.setClusteringOptions(optionsMap);
+        });
+  }
+
+  @ReactMethod
+  public void addClusteredMarkers(ReadableArray markerOptionsArray, final Promise promise) {
+    List<Pair<MarkerOptions, String>> optionsList = new ArrayList<>(markerOptionsArray.size());
+    try {
+      for (int i = 0; i < markerOptionsArray.size(); i++) {
+        Map<String, Object> optionsMap = markerOptionsArray.getMap(i).toHashMap();
+        optionsList.add(
+            new Pair<>(
+                MapViewController.createMarkerOptionsWithoutIcon(optionsMap),
+                CollectionUtil.getString("imgPath", optionsMap)));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE, e);
+      return;
+    }
+
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          MapViewController controller = mMapViewController;
+          ChunkedUiTask.run(
+              optionsList,
+              options -> {
+                MapViewController.setMarkerIcon(options.first, options.second);
+                return controller.addClusteredMarker(options.first);
+              },
+              ids -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids)));
+        });
+  }
+
+  @ReactMethod
+  public void removeClusteredMarkers(ReadableArray ids, final Promise promise) {
+    List<String> idList = NavViewModule.getStringListFromArray(ids);
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          int removed = 0;
+          for (String id : idList) {
+            if (mMapViewController.removeClusteredMarker(id)) {
+              removed++;
+            }
+          }
+          promise.resolve(removed);
+        });
+  }
+
+  @ReactMethod
+  public void clearClusteredMarkers() {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.clearClusteredMarkers();
+        });
+  }
+
+  @ReactMethod
+  public void addVirtualMarkers(ReadableArray markerOptionsArray, final Promise promise) {
+    List<VirtualMarkerLayer.Definition> definitions = new ArrayList<>(markerOptionsArray.size());
+    try {
+      for (int i = 0; i < markerOptionsArray.size(); i++) {
+        definitions.add(
+            VirtualMarkerLayer.parseDefinition(markerOptionsArray.getMap(i).toHashMap()));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE, e);
+      return;
+    }
+
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          List<String> ids = mMapViewController.addVirtualMarkers(definitions);
+          promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids));
+        });
+  }
+
+  @ReactMethod
+  public void removeVirtualMarkers(ReadableArray ids, final Promise promise) {
+    List<String> idList = NavViewModule.getStringListFromArray(ids);
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          promise.resolve(mMapViewController.removeVirtualMarkers(idList));
+        });
+  }
+
+  @ReactMethod
+  public void clearVirtualMarkers() {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.clearVirtualMarkers();
+        });
+  }
+
+  @ReactMethod
+  public void removeOverlays(ReadableArray ids, final Promise promise) {
+    List<String> idList = NavViewModule.getStringListFromArray(ids);
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          promise.resolve(mMapViewController.removeOverlays(idList));
+        });
+  }
+
+  @ReactMethod
+  public void getOverlay(String id, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          promise.resolve(ObjectTranslationUtil.getMapFromOverlay(mMapViewController, id));
+        });
+  }
+
+  @ReactMethod
+  public void getOverlayCount(final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          promise.resolve(mMapViewController.getOverlayCount());
+        });
+  }
+
+  @ReactMethod
+  public void queryContainingOverlays(ReadableMap latLngMap, final Promise promise) {
+    LatLng latLng = ObjectTranslationUtil.getLatLngFromMap(latLngMap.toHashMap());
+    if (latLng == null) {
+      promise.reject(JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+      return;
+    }
+
+    queryContainingOverlays(
+        Collections.singletonList(latLng),
+        promise,
+        results -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(results.get(0))));
+  }
+
+  @ReactMethod
+  public void queryContainingOverlaysBatch(ReadableArray latLngs, final Promise promise) {
+    List<LatLng> points = ObjectTranslationUtil.getLatLngListFromArray(latLngs);
+    if (points == null) {
+      promise.reject(JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+      return;
+    }
+
+    queryContainingOverlays(
+        points,
+        promise,
+        results -> promise.resolve(ObjectTranslationUtil.getArrayFromStringLists(results)));
+  }
+
+  private void queryContainingOverlays(
+      List<LatLng> points, Promise promise, Consumer<List<List<String>>> callback) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          mMapViewController.getGeofenceIndex().query(points, callback);
+        });
+  }
+
   @ReactMethod
   public void clearMapView() {
     UiThreadUtil.runOnUiThread(
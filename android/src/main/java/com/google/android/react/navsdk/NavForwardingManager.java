@@ -14,6 +14,7 @@
 package com.google.android.react.navsdk;
 
 import android.content.Context;
+import com.google.android.libraries.navigation.NavigationUpdatesOptions;
 import com.google.android.libraries.navigation.Navigator;
 
 /** Starts and stops the forwarding of turn-by-turn nav info from Nav SDK. */
@@ -26,6 +27,42 @@ public class NavForwardingManager {
             context.getPackageName(),
             NavInfoReceivingService.class.getName(),
             /* numNextStepsToPreview= */ Integer.MAX_VALUE); // Send all remaining steps.
+    logRegistrationResult(success, navigationCallback);
+  }
+
+  /**
+   * Registers a service to receive navigation updates from nav info.
+   *
+   * @param numNextStepsToPreview number of upcoming steps included in each update.
+   * @param includeStepImages whether maneuver bitmaps are generated for each step.
+   */
+  public static void startNavForwarding(
+      Navigator navigator,
+      Context context,
+      INavigationCallback navigationCallback,
+      int numNextStepsToPreview,
+      boolean includeStepImages) {
+    NavigationUpdatesOptions.Builder optionsBuilder =
+        NavigationUpdatesOptions.builder()
+            .setNumNextStepsToPreview(numNextStepsToPreview)
+            .setGeneratedStepImagesType(
+                includeStepImages
+                    ? NavigationUpdatesOptions.GeneratedStepImagesType.BITMAP
+                    : NavigationUpdatesOptions.GeneratedStepImagesType.NONE);
+    if (includeStepImages) {
+      optionsBuilder.setDisplayMetrics(context.getResources().getDisplayMetrics());
+    }
+
+    boolean success =
+        navigator.registerServiceForNavUpdates(
+            context.getPackageName(),
+            NavInfoReceivingService.class.getName(),
+            optionsBuilder.build());
+    logRegistrationResult(success, navigationCallback);
+  }
+
+  private static void logRegistrationResult(
+      boolean success, INavigationCallback navigationCallback) {
     if (success) {
       navigationCallback.logDebugInfo("Successfully registered service for nav updates");
     } else {
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Single-slot mailbox delivering nav info updates to a consumer on a dedicated thread. Posting
+ * replaces any update the consumer has not picked up yet, so a slow consumer only ever sees the
+ * newest update and never a backlog.
+ *
+ * <p>Clearing starts a new generation. Updates of earlier generations are dropped, and the
+ * consumer is told about the clear on the same thread, after any update that was being delivered.
+ */
+public class NavInfoMailbox {
+  public interface Consumer {
+    void onNavInfo(NavInfo navInfo);
+
+    /** Called after {@link #clear}, once no update of an earlier generation can follow. */
+    void onCleared();
+  }
+
+  private static final class Update {
+    final NavInfo navInfo;
+    final int generation;
+
+    Update(NavInfo navInfo, int generation) {
+      this.navInfo = navInfo;
+      this.generation = generation;
+    }
+  }
+
+  private final AtomicReference<Update> mSlot = new AtomicReference<>();
+  private final AtomicBoolean mDrainScheduled = new AtomicBoolean(false);
+  private final AtomicInteger mGeneration = new AtomicInteger();
+  private final HandlerThread mThread;
+  private final Handler mHandler;
+  private final Consumer mConsumer;
+  private volatile boolean mQuit = false;
+
+  private final Runnable mDrainRunnable =
+      new Runnable() {
+        @Override
+        public void run() {
+          mDrainScheduled.set(false);
+          Update update = mSlot.getAndSet(null);
+          if (update != null && update.generation == mGeneration.get() && !mQuit) {
+            mConsumer.onNavInfo(update.navInfo);
+          }
+        }
+      };
+
+  private final Runnable mClearedRunnable =
+      new Runnable() {
+        @Override
+        public void run() {
+          mConsumer.onCleared();
+        }
+      };
+
+  public NavInfoMailbox(Consumer consumer) {
+    mConsumer = consumer;
+    mThread = new HandlerThread("NavInfoSerializer", Process.THREAD_PRIORITY_FOREGROUND);
+    mThread.start();
+    mHandler = new Handler(mThread.getLooper());
+  }
+
+  /** Replaces the pending update and schedules delivery if none is scheduled yet. */
+  public void post(NavInfo navInfo) {
+    if (mQuit) {
+      return;
+    }
+    mSlot.set(new Update(navInfo, mGeneration.get()));
+    if (mDrainScheduled.compareAndSet(false, true)) {
+      mHandler.post(mDrainRunnable);
+    }
+  }
+
+  /** Drops the pending update and any update of the current generation that is not delivered. */
+  public void clear() {
+    mGeneration.incrementAndGet();
+    mSlot.set(null);
+    if (!mQuit) {
+      mHandler.post(mClearedRunnable);
+    }
+  }
+
+  /** Drops pending updates and stops the delivery thread. The mailbox cannot be used afterwards. */
+  public void quit() {
+    mQuit = true;
+    mGeneration.incrementAndGet();
+    mSlot.set(null);
+    mThread.quitSafely();
+  }
+}
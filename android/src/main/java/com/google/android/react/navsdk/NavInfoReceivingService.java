@@ -29,8 +29,9 @@ import com.google.android.libraries.mapsplatform.turnbyturn.TurnByTurnManager;
 import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
 
 /**
- * Receives turn-by-turn navigation information forwarded from NavSDK and posts each update to live
- * data, which is then displayed on a separate header in {@code NavInfoDisplayFragment}. This
+ * Receives turn-by-turn navigation information forwarded from NavSDK and hands each update to the
+ * in-process {@link NavInfoListener}, or posts it to live data, which is then displayed on a
+ * separate header in {@code NavInfoDisplayFragment}. This
  * service may be part of a different process aside from the main process, depending on how you want
  * to structure your app. The service binding will be able to handle interprocess communication to
  * receive nav info messages from the main process.
@@ -44,6 +45,16 @@ public class NavInfoReceivingService extends Service {
 
   private static final MutableLiveData<NavInfo> mNavInfoMutableLiveData = new MutableLiveData<>();
 
+  /**
+   * Receives nav info on the service's receiving thread when the consumer runs in the same process
+   * as the service. A null value means the forwarding has stopped.
+   */
+  public interface NavInfoListener {
+    void onNavInfo(@Nullable NavInfo navInfo);
+  }
+
+  @Nullable private static volatile NavInfoListener sNavInfoListener;
+
   private final class IncomingNavStepHandler extends Handler {
     public IncomingNavStepHandler(Looper looper) {
       super(looper);
@@ -54,8 +65,7 @@ public class NavInfoReceivingService extends Service {
       if (TurnByTurnManager.MSG_NAV_INFO == msg.what) {
         // Read the nav info from the message data.
         NavInfo navInfo = mTurnByTurnManager.readNavInfoFromBundle(msg.getData());
-        // Post the value to LiveData to be displayed in the nav info header.
-        mNavInfoMutableLiveData.postValue(navInfo);
+        publishNavInfo(navInfo);
       }
     }
   }
@@ -68,10 +78,25 @@ public class NavInfoReceivingService extends Service {
 
   @Override
   public boolean onUnbind(Intent intent) {
-    mNavInfoMutableLiveData.postValue(null);
+    publishNavInfo(null);
     return super.onUnbind(intent);
   }
 
+  /**
+   * Hands the nav info to the in-process listener directly on the receiving thread, and posts it to
+   * LiveData only if anyone observes it.
+   */
+  private static void publishNavInfo(@Nullable NavInfo navInfo) {
+    NavInfoListener listener = sNavInfoListener;
+    if (listener != null) {
+      listener.onNavInfo(navInfo);
+    }
+    if (listener == null || mNavInfoMutableLiveData.hasActiveObservers()) {
+      // Post the value to LiveData to be displayed in the nav info header.
+      mNavInfoMutableLiveData.postValue(navInfo);
+    }
+  }
+
   @Override
   public void onCreate() {
     mTurnByTurnManager = TurnByTurnManager.createInstance();
@@ -84,4 +109,16 @@ public class NavInfoReceivingService extends Service {
   public static LiveData<NavInfo> getNavInfoLiveData() {
     return mNavInfoMutableLiveData;
   }
+
+  /** Sets the in-process listener, bypassing LiveData and the main thread hop. */
+  public static synchronized void setNavInfoListener(@Nullable NavInfoListener listener) {
+    sNavInfoListener = listener;
+  }
+
+  /** Removes {@code listener} if it is still the in-process listener. */
+  public static synchronized void clearNavInfoListener(@Nullable NavInfoListener listener) {
+    if (listener != null && sNavInfoListener == listener) {
+      sNavInfoListener = null;
+    }
+  }
 }
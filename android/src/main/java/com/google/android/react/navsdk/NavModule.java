@@ -17,8 +17,6 @@ import android.app.Activity;
 import android.location.Location;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.lifecycle.LifecycleOwner;
-import androidx.lifecycle.Observer;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.Promise;
@@ -75,11 +73,24 @@ public class NavModule extends ReactContextBaseJavaModule
       new CopyOnWriteArrayList<>();
   private boolean mIsListeningRoadSnappedLocation = false;
   private LocationListener mLocationListener;
+  private volatile LocationFilter mRoadSnappedLocationFilter = LocationFilter.ACCEPT_ALL;
+  private volatile LocationFilter mRawLocationFilter = LocationFilter.ACCEPT_ALL;
+  private volatile LocationBatcher mLocationBatcher;
+  private volatile TurnByTurnDeltaEncoder mTurnByTurnDeltaEncoder;
+  private volatile NavInfo mLastNavInfo;
+  private NavInfoMailbox mNavInfoMailbox;
+  @Nullable private NavInfoReceivingService.NavInfoListener mNavInfoListener;
+  private final LocationHistoryBuffer mLocationHistory =
+      new LocationHistoryBuffer(LocationHistoryBuffer.DEFAULT_CAPACITY);
   private Navigator.ArrivalListener mArrivalListener;
   private Navigator.RouteChangedListener mRouteChangedListener;
   private Navigator.TrafficUpdatedListener mTrafficUpdatedListener;
   private Navigator.ReroutingListener mReroutingListener;
   private Navigator.RemainingTimeOrDistanceChangedListener mRemainingTimeOrDistanceChangedListener;
+  private int mRemainingTimeChangeThresholdSeconds = 0;
+  private int mRemainingDistanceChangeThresholdMeters = 0;
+  private final CoalescingEventDispatcher mEventDispatcher =
+      new CoalescingEventDispatcher(this::emitEventToReactNative);
 
   private HashMap<String, Object> tocParamsMap;
   private @Navigator.TaskRemovedBehavior int taskRemovedBehaviour;
@@ -154,7 +165,10 @@ public class NavModule extends ReactContextBaseJavaModule
   private void cleanup() {
     stopUpdatingLocation();
     removeNavigationListeners();
+    mEventDispatcher.clear();
     mWaypoints.clear();
+    mLocationHistory.clear();
+    releaseNavInfoListener();
 
     for (NavigationReadyListener listener : mNavigationReadyListeners) {
       listener.onReady(false);
@@ -180,17 +194,44 @@ public class NavModule extends ReactContextBaseJavaModule
       this.showTermsAndConditionsDialog();
     }
 
-    // Observe live data for nav info updates.
-    Observer<NavInfo> navInfoObserver = this::showNavInfo;
-
-    UiThreadUtil.runOnUiThread(
-        () -> {
-          final Activity currentActivity = getReactApplicationContext().getCurrentActivity();
-          if (currentActivity != null) {
-            NavInfoReceivingService.getNavInfoLiveData()
-                .observe((LifecycleOwner) currentActivity, navInfoObserver);
+    // Receive nav info updates directly from the in-process service. Updates are serialized on a
+    // dedicated thread and only the newest pending update is delivered.
+    if (mNavInfoMailbox == null) {
+      mNavInfoMailbox =
+          new NavInfoMailbox(
+              new NavInfoMailbox.Consumer() {
+                @Override
+                public void onNavInfo(NavInfo navInfo) {
+                  showNavInfo(navInfo);
+                }
+
+                @Override
+                public void onCleared() {
+                  mLastNavInfo = null;
+                }
+              });
+    }
+    final NavInfoMailbox navInfoMailbox = mNavInfoMailbox;
+    mNavInfoListener =
+        navInfo -> {
+          if (navInfo == null) {
+            navInfoMailbox.clear();
+          } else {
+            navInfoMailbox.post(navInfo);
           }
-        });
+        };
+    NavInfoReceivingService.setNavInfoListener(mNavInfoListener);
+  }
+
+  /** Stops receiving nav info, so the static listener no longer references this module. */
+  private void releaseNavInfoListener() {
+    NavInfoReceivingService.clearNavInfoListener(mNavInfoListener);
+    mNavInfoListener = null;
+    if (mNavInfoMailbox != null) {
+      mNavInfoMailbox.quit();
+      mNavInfoMailbox = null;
+    }
+    mLastNavInfo = null;
   }
 
   private void onNavigationReady() {
@@ -277,14 +318,31 @@ public class NavModule extends ReactContextBaseJavaModule
    * Enable turn by turn logging using background service
    *
    * @param isEnabled
+   * @param options optional "previewStepCount" and "includeStepImages" settings.
    */
   @ReactMethod
-  public void setTurnByTurnLoggingEnabled(boolean isEnabled) {
+  public void setTurnByTurnLoggingEnabled(boolean isEnabled, @Nullable ReadableMap options) {
     final Activity currentActivity = getReactApplicationContext().getCurrentActivity();
     if (currentActivity == null) return;
 
     if (isEnabled) {
-      NavForwardingManager.startNavForwarding(mNavigator, currentActivity, this);
+      TurnByTurnDeltaEncoder deltaEncoder = mTurnByTurnDeltaEncoder;
+      if (deltaEncoder != null) {
+        deltaEncoder.reset();
+      }
+
+      if (options == null) {
+        NavForwardingManager.startNavForwarding(mNavigator, currentActivity, this);
+        return;
+      }
+
+      HashMap<String, Object> optionsMap = options.toHashMap();
+      NavForwardingManager.startNavForwarding(
+          mNavigator,
+          currentActivity,
+          this,
+          CollectionUtil.getInt("previewStepCount", optionsMap, Integer.MAX_VALUE),
+          CollectionUtil.getBool("includeStepImages", optionsMap, true));
     } else {
       NavForwardingManager.stopNavForwarding(mNavigator, currentActivity, this);
     }
@@ -341,15 +399,50 @@ public class NavModule extends ReactContextBaseJavaModule
         };
     mNavigator.addReroutingListener(mReroutingListener);
 
+    registerRemainingTimeOrDistanceChangedListener();
+  }
+
+  private void registerRemainingTimeOrDistanceChangedListener() {
+    if (mRemainingTimeOrDistanceChangedListener != null) {
+      mNavigator.removeRemainingTimeOrDistanceChangedListener(
+          mRemainingTimeOrDistanceChangedListener);
+    }
+
     mRemainingTimeOrDistanceChangedListener =
         new Navigator.RemainingTimeOrDistanceChangedListener() {
           @Override
           public void onRemainingTimeOrDistanceChanged() {
-            sendCommandToReactNative("onRemainingTimeOrDistanceChanged", null);
+            TimeAndDistance timeAndDistance = mNavigator.getCurrentTimeAndDistance();
+            sendCommandToReactNative(
+                "onRemainingTimeOrDistanceChanged",
+                timeAndDistance != null
+                    ? ObjectTranslationUtil.getMapFromTimeAndDistance(timeAndDistance)
+                    : null);
           }
         };
     mNavigator.addRemainingTimeOrDistanceChangedListener(
-        0, 0, mRemainingTimeOrDistanceChangedListener);
+        mRemainingTimeChangeThresholdSeconds,
+        mRemainingDistanceChangeThresholdMeters,
+        mRemainingTimeOrDistanceChangedListener);
+  }
+
+  /**
+   * Sets the thresholds that must be exceeded before onRemainingTimeOrDistanceChanged is emitted.
+   *
+   * @param seconds minimum change in remaining time, in seconds.
+   * @param meters minimum change in remaining distance, in meters.
+   */
+  @ReactMethod
+  public void setRemainingTimeOrDistanceChangedThresholds(int seconds, int meters) {
+    mRemainingTimeChangeThresholdSeconds = Math.max(0, seconds);
+    mRemainingDistanceChangeThresholdMeters = Math.max(0, meters);
+
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mNavigator != null) {
+            registerRemainingTimeOrDistanceChangedListener();
+          }
+        });
   }
 
   private void removeNavigationListeners() {
@@ -584,11 +677,7 @@ public class NavModule extends ReactContextBaseJavaModule
       return;
     }
 
-    WritableMap map = Arguments.createMap();
-    map.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
-    map.putInt("meters", timeAndDistance.getMeters());
-    map.putInt("seconds", timeAndDistance.getSeconds());
-    promise.resolve(map);
+    promise.resolve(ObjectTranslationUtil.getMapFromTimeAndDistance(timeAndDistance));
   }
 
   @ReactMethod
@@ -625,6 +714,96 @@ public class NavModule extends ReactContextBaseJavaModule
     promise.resolve(arr);
   }
 
+  /**
+   * Returns the current route segment with its geometry in the given {@link
+   * CustomTypes.GeometryFormat}.
+   */
+  @ReactMethod
+  public void getCurrentRouteSegmentWithFormat(int geometryFormat, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    RouteSegment routeSegment = mNavigator.getCurrentRouteSegment();
+
+    if (routeSegment == null) {
+      promise.resolve(null);
+      return;
+    }
+
+    promise.resolve(
+        ObjectTranslationUtil.getMapFromRouteSegment(
+            routeSegment, EnumTranslationUtil.getGeometryFormatFromJsValue(geometryFormat)));
+  }
+
+  /**
+   * Returns all route segments with their geometry in the given {@link
+   * CustomTypes.GeometryFormat}.
+   */
+  @ReactMethod
+  public void getRouteSegmentsWithFormat(int geometryFormat, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    CustomTypes.GeometryFormat format =
+        EnumTranslationUtil.getGeometryFormatFromJsValue(geometryFormat);
+    List<RouteSegment> routeSegmentList = mNavigator.getRouteSegments();
+    WritableArray arr = Arguments.createArray();
+
+    for (RouteSegment segment : routeSegmentList) {
+      arr.pushMap(ObjectTranslationUtil.getMapFromRouteSegment(segment, format));
+    }
+
+    promise.resolve(arr);
+  }
+
+  /**
+   * Returns a page of the points of a single route segment.
+   *
+   * @param segmentIndex index of the segment in the list returned by getRouteSegments.
+   * @param pointOffset index of the first point to return.
+   * @param pointLimit maximum number of points to return. Values of 0 or less return all
+   *     remaining points.
+   * @param geometryFormat the {@link CustomTypes.GeometryFormat} of the returned points.
+   */
+  @ReactMethod
+  public void getRouteSegmentPoints(
+      int segmentIndex,
+      int pointOffset,
+      int pointLimit,
+      int geometryFormat,
+      final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    CustomTypes.GeometryFormat format =
+        EnumTranslationUtil.getGeometryFormatFromJsValue(geometryFormat);
+    List<RouteSegment> routeSegmentList = mNavigator.getRouteSegments();
+
+    if (segmentIndex < 0 || segmentIndex >= routeSegmentList.size()) {
+      promise.resolve(null);
+      return;
+    }
+
+    List<LatLng> latLngs = routeSegmentList.get(segmentIndex).getLatLngs();
+    int totalPoints = latLngs.size();
+    int fromIndex = Math.min(Math.max(0, pointOffset), totalPoints);
+    int toIndex = pointLimit > 0 ? Math.min(totalPoints, fromIndex + pointLimit) : totalPoints;
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("totalPoints", totalPoints);
+    map.putInt("pointOffset", fromIndex);
+    map.putInt("pointCount", toIndex - fromIndex);
+    GeometryUtil.putGeometry(map, "points", latLngs, fromIndex, toIndex, format);
+
+    promise.resolve(map);
+  }
+
   @ReactMethod
   public void getTraveledPath(final Promise promise) {
     if (mNavigator == null) {
@@ -641,8 +820,90 @@ public class NavModule extends ReactContextBaseJavaModule
     promise.resolve(arr);
   }
 
+  /**
+   * Returns the points appended to the traveled path since a previous call.
+   *
+   * @param cursor value of "nextCursor" returned by the previous call, or 0 to start from the
+   *     beginning of the path.
+   * @param options optional "toleranceMeters" used to simplify the returned points,
+   *     "geometryFormat" of the returned points, and "anchor" returned by the previous call, used
+   *     to detect that the path was rebuilt since then.
+   */
+  @ReactMethod
+  public void getTraveledPathSince(
+      int cursor, @Nullable ReadableMap options, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    double toleranceMeters = 0;
+    CustomTypes.GeometryFormat format = CustomTypes.GeometryFormat.LAT_LNG;
+    LatLng anchor = null;
+    if (options != null) {
+      HashMap<String, Object> optionsMap = options.toHashMap();
+      toleranceMeters = CollectionUtil.getDouble("toleranceMeters", optionsMap, 0);
+      format =
+          EnumTranslationUtil.getGeometryFormatFromJsValue(
+              CollectionUtil.getInt("geometryFormat", optionsMap, 0));
+      if (optionsMap.get("anchor") instanceof Map) {
+        anchor = ObjectTranslationUtil.getLatLngFromMap((Map) optionsMap.get("anchor"));
+      }
+    }
+
+    List<LatLng> traveledRoute = mNavigator.getTraveledRoute();
+    int size = traveledRoute.size();
+
+    // The path is rebuilt when a new route starts, which invalidates earlier cursors. A rebuilt
+    // path can be as long as the old one, so the point before the cursor is compared with the last
+    // point returned by the previous call.
+    boolean isReset =
+        cursor < 0
+            || cursor > size
+            || (cursor > 0 && anchor != null && !anchor.equals(traveledRoute.get(cursor - 1)));
+    int fromIndex = isReset ? 0 : cursor;
+
+    List<LatLng> points;
+    if (toleranceMeters > 0 && size - fromIndex > 1) {
+      // Simplify from the last point already returned so the new points join up with it.
+      int anchorIndex = Math.max(0, fromIndex - 1);
+      points = GeometryUtil.simplify(traveledRoute, anchorIndex, size, toleranceMeters);
+      if (anchorIndex < fromIndex) {
+        points.remove(0);
+      }
+    } else {
+      points = traveledRoute.subList(fromIndex, size);
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("nextCursor", size);
+    map.putBoolean("isReset", isReset);
+    map.putInt("pointCount", points.size());
+    if (size > 0) {
+      map.putMap("anchor", ObjectTranslationUtil.getMapFromLatLng(traveledRoute.get(size - 1)));
+    }
+    GeometryUtil.putGeometry(map, "points", points, 0, points.size(), format);
+
+    promise.resolve(map);
+  }
+
+  /**
+   * Enables or disables batched delivery of navigation events.
+   *
+   * @param isEnabled whether events should be coalesced and delivered in batches.
+   * @param flushIntervalMs interval between batches, or 0 to deliver once per frame.
+   */
+  @ReactMethod
+  public void setEventBatchingEnabled(boolean isEnabled, double flushIntervalMs) {
+    mEventDispatcher.configure(isEnabled, (long) flushIntervalMs);
+  }
+
   /** Send command to react native. */
   private void sendCommandToReactNative(String functionName, @Nullable Object params) {
+    mEventDispatcher.dispatch(functionName, params);
+  }
+
+  private void emitEventToReactNative(String functionName, @Nullable Object params) {
     if (reactContext.hasActiveReactInstance()) {
       reactContext
           .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
@@ -720,16 +981,89 @@ public class NavModule extends ReactContextBaseJavaModule
     NavigationApi.resetTermsAccepted(currentActivity.getApplication());
   }
 
+  /**
+   * Starts forwarding road-snapped and raw location updates.
+   *
+   * @param options optional filter options, with separate "roadSnapped" and "raw" entries.
+   */
   @ReactMethod
-  public void startUpdatingLocation() {
+  public void startUpdatingLocation(@Nullable ReadableMap options) {
+    if (options != null) {
+      HashMap<String, Object> optionsMap = options.toHashMap();
+      mRoadSnappedLocationFilter =
+          ThresholdLocationFilter.fromMap((Map<String, Object>) optionsMap.get("roadSnapped"));
+      mRawLocationFilter =
+          ThresholdLocationFilter.fromMap((Map<String, Object>) optionsMap.get("raw"));
+      setLocationBatching((Map<String, Object>) optionsMap.get("batch"));
+    } else {
+      mRoadSnappedLocationFilter = LocationFilter.ACCEPT_ALL;
+      mRawLocationFilter = LocationFilter.ACCEPT_ALL;
+      setLocationBatching(null);
+    }
+
     registerLocationListener();
     mIsListeningRoadSnappedLocation = true;
   }
 
+  private void setLocationBatching(@Nullable Map<String, Object> batchOptions) {
+    if (mLocationBatcher != null) {
+      mLocationBatcher.flush();
+      mLocationBatcher = null;
+    }
+
+    if (batchOptions != null) {
+      mLocationBatcher =
+          new LocationBatcher(
+              CollectionUtil.getInt("maxLocations", batchOptions, 10),
+              (long) CollectionUtil.getDouble("maxDelayMs", batchOptions, 0),
+              batch -> sendCommandToReactNative("onLocationBatch", batch));
+    }
+  }
+
+  /**
+   * Returns the recorded road-snapped location history as parallel arrays.
+   *
+   * @param sinceTimestamp minimum location time in milliseconds since Unix Epoch.
+   * @param maxPoints maximum number of (most recent) locations to return, or 0 for no limit.
+   * @param decimation keeps only every n-th location, or 1 to keep all.
+   */
+  @ReactMethod
+  public void getLocationHistory(
+      double sinceTimestamp, int maxPoints, int decimation, final Promise promise) {
+    promise.resolve(mLocationHistory.query(sinceTimestamp, maxPoints, decimation));
+  }
+
+  @ReactMethod
+  public void clearLocationHistory() {
+    mLocationHistory.clear();
+  }
+
+  /**
+   * Sets how many road-snapped locations are kept in the history. Existing history is discarded
+   * if the capacity changes.
+   */
+  @ReactMethod
+  public void setLocationHistoryCapacity(int capacity) {
+    mLocationHistory.setCapacity(capacity);
+  }
+
+  /** Replaces the filter applied to road-snapped location updates. */
+  public void setRoadSnappedLocationFilter(@Nullable LocationFilter filter) {
+    mRoadSnappedLocationFilter = filter != null ? filter : LocationFilter.ACCEPT_ALL;
+  }
+
+  /** Replaces the filter applied to raw location updates. */
+  public void setRawLocationFilter(@Nullable LocationFilter filter) {
+    mRawLocationFilter = filter != null ? filter : LocationFilter.ACCEPT_ALL;
+  }
+
   @ReactMethod
   public void stopUpdatingLocation() {
     mIsListeningRoadSnappedLocation = false;
     removeLocationListener();
+    if (mLocationBatcher != null) {
+      mLocationBatcher.flush();
+    }
   }
 
   private void registerLocationListener() {
@@ -737,11 +1071,27 @@ public class NavModule extends ReactContextBaseJavaModule
     removeLocationListener();
 
     if (mRoadSnappedLocationProvider != null) {
+      mRoadSnappedLocationFilter.reset();
+      mRawLocationFilter.reset();
       mLocationListener =
           new LocationListener() {
             @Override
             public void onLocationChanged(final Location location) {
-              if (mIsListeningRoadSnappedLocation) {
+              if (!mIsListeningRoadSnappedLocation) {
+                return;
+              }
+
+              // History is recorded before filtering so it stays complete even when JS
+              // subscribes at a low rate.
+              mLocationHistory.add(location);
+              if (!mRoadSnappedLocationFilter.accept(location)) {
+                return;
+              }
+
+              LocationBatcher batcher = mLocationBatcher;
+              if (batcher != null) {
+                batcher.add(location);
+              } else {
                 sendCommandToReactNative(
                     "onLocationChanged", ObjectTranslationUtil.getMapFromLocation(location));
               }
@@ -749,7 +1099,7 @@ public class NavModule extends ReactContextBaseJavaModule
 
             @Override
             public void onRawLocationUpdate(final Location location) {
-              if (mIsListeningRoadSnappedLocation) {
+              if (mIsListeningRoadSnappedLocation && mRawLocationFilter.accept(location)) {
                 sendCommandToReactNative(
                     "onRawLocationChanged", ObjectTranslationUtil.getMapFromLocation(location));
               }
@@ -769,41 +1119,58 @@ public class NavModule extends ReactContextBaseJavaModule
   }
 
   private void showNavInfo(NavInfo navInfo) {
+    mLastNavInfo = navInfo;
     if (navInfo == null || reactContext == null) {
       return;
     }
-    WritableMap map = Arguments.createMap();
 
-    map.putInt("navState", navInfo.getNavState());
-    map.putBoolean("routeChanged", navInfo.getRouteChanged());
-    if (navInfo.getDistanceToCurrentStepMeters() != null)
-      map.putInt("distanceToCurrentStepMeters", navInfo.getDistanceToCurrentStepMeters());
-    if (navInfo.getDistanceToFinalDestinationMeters() != null)
-      map.putInt("distanceToFinalDestinationMeters", navInfo.getDistanceToFinalDestinationMeters());
-    if (navInfo.getDistanceToNextDestinationMeters() != null)
-      map.putInt("distanceToNextDestinationMeters", navInfo.getDistanceToNextDestinationMeters());
-    if (navInfo.getTimeToCurrentStepSeconds() != null)
-      map.putInt("timeToCurrentStepSeconds", navInfo.getTimeToCurrentStepSeconds());
-    if (navInfo.getTimeToFinalDestinationSeconds() != null)
-      map.putInt("timeToFinalDestinationSeconds", navInfo.getTimeToFinalDestinationSeconds());
-    if (navInfo.getTimeToNextDestinationSeconds() != null)
-      map.putInt("timeToNextDestinationSeconds", navInfo.getTimeToNextDestinationSeconds());
-    if (navInfo.getCurrentStep() != null)
-      map.putMap("currentStep", ObjectTranslationUtil.getMapFromStepInfo(navInfo.getCurrentStep()));
-
-    WritableArray remainingSteps = Arguments.createArray();
-    if (navInfo.getRemainingSteps() != null) {
-      for (StepInfo info : navInfo.getRemainingSteps()) {
-        remainingSteps.pushMap(ObjectTranslationUtil.getMapFromStepInfo(info));
-      }
-    }
-    map.putArray("getRemainingSteps", remainingSteps);
+    WritableMap map =
+        mTurnByTurnDeltaEncoder != null
+            ? mTurnByTurnDeltaEncoder.encode(navInfo)
+            : ObjectTranslationUtil.getMapFromNavInfo(navInfo);
 
     WritableNativeArray params = new WritableNativeArray();
     params.pushMap(map);
     sendCommandToReactNative("onTurnByTurn", params);
   }
 
+  /**
+   * Returns a page of the remaining steps from the most recent turn-by-turn update. The steps
+   * available are limited by the preview window passed to setTurnByTurnLoggingEnabled.
+   *
+   * @param offset index of the first step to return.
+   * @param count maximum number of steps to return.
+   */
+  @ReactMethod
+  public void getRemainingSteps(int offset, int count, final Promise promise) {
+    NavInfo navInfo = mLastNavInfo;
+    WritableArray arr = Arguments.createArray();
+    if (navInfo == null || navInfo.getRemainingSteps() == null) {
+      promise.resolve(arr);
+      return;
+    }
+
+    List<StepInfo> steps = navInfo.getRemainingSteps();
+    int start = Math.max(0, offset);
+    int end = count > 0 ? Math.min(steps.size(), start + count) : steps.size();
+    for (int i = start; i < end; i++) {
+      arr.pushMap(ObjectTranslationUtil.getMapFromStepInfo(steps.get(i)));
+    }
+    promise.resolve(arr);
+  }
+
+  /**
+   * Enables or disables delta encoding of turn-by-turn events. When enabled, full events are only
+   * sent when the route or the set of remaining steps changes, and other updates carry only the
+   * fields that changed. Turn-by-turn events are not coalesced while deltas are sent, because each
+   * delta applies to the event before it.
+   */
+  @ReactMethod
+  public void setTurnByTurnDeltaUpdatesEnabled(boolean isEnabled) {
+    mEventDispatcher.setCoalesced("onTurnByTurn", !isEnabled);
+    mTurnByTurnDeltaEncoder = isEnabled ? new TurnByTurnDeltaEncoder() : null;
+  }
+
   @Override
   public void logDebugInfo(String info) {
     sendCommandToReactNative("logDebugInfo", info);
@@ -830,4 +1197,10 @@ public class NavModule extends ReactContextBaseJavaModule
 
   @Override
   public void onHostDestroy() {}
+
+  @Override
+  public void invalidate() {
+    releaseNavInfoListener();
+    super.invalidate();
+  }
 }
@@ -32,6 +32,7 @@ import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
+import com.google.android.libraries.navigation.ForceNightMode;
 import com.google.android.libraries.navigation.NavigationView;
 import com.google.android.libraries.navigation.PromptVisibilityChangedListener;
 import com.google.android.libraries.navigation.StylingOptions;
@@ -50,6 +51,7 @@ public class NavViewFragment extends SupportNavigationFragment
 
   private int viewTag; // React native view tag.
   private ReactApplicationContext reactContext;
+  @Nullable private Runnable onMapReadyListener;
 
   public NavViewFragment(ReactApplicationContext reactContext, int viewTag) {
     this.reactContext = reactContext;
@@ -94,11 +96,17 @@ public class NavViewFragment extends SupportNavigationFragment
             // Setup map listeners with the provided callback
             mMapViewController.setupMapListeners(NavViewFragment.this);
 
-            emitEvent("onMapReady", null);
-
             setNavigationUiEnabled(NavModule.getInstance().getNavigator() != null);
             addOnRecenterButtonClickedListener(onRecenterButtonClickedListener);
             addPromptVisibilityChangedListener(onPromptVisibilityChangedListener);
+
+            // Commands queued before the map was ready run after the fragment's own setup, so
+            // that they are not overridden by it.
+            if (onMapReadyListener != null) {
+              onMapReadyListener.run();
+            }
+
+            emitEvent("onMapReady", null);
           }
         });
   }
@@ -136,9 +144,22 @@ public class NavViewFragment extends SupportNavigationFragment
     emitEvent("onMarkerClick", ObjectTranslationUtil.getMapFromMarker(marker));
   }
 
+  @Override
+  public void onClusterClick(WritableMap cluster) {
+    emitEvent("onClusterClick", cluster);
+  }
+
+  @Override
+  public void onMarkerClick(Marker marker, String markerId) {
+    emitEvent("onMarkerClick", ObjectTranslationUtil.getMapFromMarker(marker, markerId));
+  }
+
   @Override
   public void onPolylineClick(Polyline polyline) {
-    emitEvent("onPolylineClick", ObjectTranslationUtil.getMapFromPolyline(polyline));
+    emitEvent(
+        "onPolylineClick",
+        ObjectTranslationUtil.getMapFromPolyline(
+            polyline, mMapViewController.getPolylinePoints(polyline)));
   }
 
   @Override
@@ -182,13 +203,44 @@ public class NavViewFragment extends SupportNavigationFragment
     return mGoogleMap;
   }
 
+  public void setOnMapReadyListener(@Nullable Runnable listener) {
+    this.onMapReadyListener = listener;
+  }
+
+  public void setViewTag(int viewTag) {
+    this.viewTag = viewTag;
+    if (mMapViewController != null) {
+      emitEvent("onMapReady", null);
+    }
+  }
+
+  public void prepareForReuse() {
+    viewTag = View.NO_ID;
+    if (mMapViewController != null) {
+      mMapViewController.resetForReuse();
+    }
+
+    // Restores the navigation UI controls that views can change to the SDK defaults.
+    setHeaderEnabled(true);
+    setEtaCardEnabled(true);
+    setTripProgressBarEnabled(false);
+    setSpeedometerEnabled(false);
+    setSpeedLimitIconEnabled(false);
+    setTrafficIncidentCardsEnabled(true);
+    setRecenterButtonEnabled(true);
+    setReportIncidentButtonEnabled(true);
+    setForceNightMode(ForceNightMode.AUTO);
+    setNavigationUiEnabled(NavModule.getInstance().getNavigator() != null);
+  }
+
   private void cleanup() {
     removeOnRecenterButtonClickedListener(onRecenterButtonClickedListener);
     removePromptVisibilityChangedListener(onPromptVisibilityChangedListener);
   }
 
   private void emitEvent(String eventName, @Nullable WritableMap data) {
-    if (reactContext != null) {
+    // Parked fragments are not attached to a React view.
+    if (reactContext != null && viewTag != View.NO_ID) {
       EventDispatcher dispatcher =
           UIManagerHelper.getEventDispatcherForReactTag(reactContext, viewTag);
 
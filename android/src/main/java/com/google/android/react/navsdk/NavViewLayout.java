@@ -19,14 +19,53 @@ import androidx.annotation.Nullable;
 import com.google.android.libraries.navigation.StylingOptions;
 
 public class NavViewLayout extends FrameLayout {
+  /** Notified when the children of a layout have to be measured and laid out again. */
+  public interface OnLayoutDirtyListener {
+    void onLayoutDirty(NavViewLayout view);
+  }
+
   private CustomTypes.FragmentType fragmentType;
   private StylingOptions stylingOptions;
   private boolean isFragmentCreated = false;
+  @Nullable private OnLayoutDirtyListener onLayoutDirtyListener;
 
   public NavViewLayout(Context context) {
     super(context);
   }
 
+  public void setOnLayoutDirtyListener(@Nullable OnLayoutDirtyListener listener) {
+    this.onLayoutDirtyListener = listener;
+  }
+
+  /**
+   * React Native does not lay out views added natively, so layout requests from the fragment's
+   * views are forwarded to the listener, which lays them out manually.
+   */
+  @Override
+  public void requestLayout() {
+    super.requestLayout();
+    // Called from the FrameLayout constructor, before the listener can be set.
+    if (onLayoutDirtyListener != null) {
+      onLayoutDirtyListener.onLayoutDirty(this);
+    }
+  }
+
+  @Override
+  protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+    super.onSizeChanged(w, h, oldw, oldh);
+    if (onLayoutDirtyListener != null) {
+      onLayoutDirtyListener.onLayoutDirty(this);
+    }
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    if (onLayoutDirtyListener != null) {
+      onLayoutDirtyListener.onLayoutDirty(this);
+    }
+  }
+
   public void setFragmentType(CustomTypes.FragmentType type) {
     this.fragmentType = type;
   }
@@ -22,30 +22,52 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
+import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.common.MapBuilder;
 import com.facebook.react.uimanager.SimpleViewManager;
 import com.facebook.react.uimanager.ThemedReactContext;
 import com.facebook.react.uimanager.annotations.ReactProp;
 import com.google.android.gms.maps.GoogleMap;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 // NavViewManager is responsible for managing both the regular map fragment as well as the
 // navigation map view fragment.
 //
-public class NavViewManager extends SimpleViewManager<NavViewLayout> {
+public class NavViewManager extends SimpleViewManager<NavViewLayout>
+    implements LifecycleEventListener {
 
   public static final String REACT_CLASS = "NavViewManager";
 
   private static NavViewManager instance;
 
   private final HashMap<Integer, WeakReference<IMapViewFragment>> fragmentMap = new HashMap<>();
-  private final HashMap<Integer, Choreographer.FrameCallback> frameCallbackMap = new HashMap<>();
+
+  /** Commands of views whose map is not ready yet, keyed by view id. */
+  private final HashMap<Integer, PendingCommandQueue> pendingCommandMap = new HashMap<>();
+
+  /** Fragments of mounted views that were obtained from the pool, keyed by view id. */
+  private final HashMap<Integer, MapViewPool.Slot> pooledSlotMap = new HashMap<>();
+
+  @Nullable private MapViewPool mapViewPool;
+
+  /** Views whose children have to be laid out on the next frame, shared by all views. */
+  private final Set<NavViewLayout> dirtyLayouts = new LinkedHashSet<>();
+
+  private final Choreographer.FrameCallback layoutFrameCallback =
+      frameTimeNanos -> layoutDirtyViews();
+  private boolean isLayoutFrameCallbackPosted = false;
+  private boolean isHostPaused = false;
 
   private ReactApplicationContext reactContext;
 
@@ -64,6 +86,17 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
   }
 
   public void setReactContext(ReactApplicationContext reactContext) {
+    if (this.reactContext != reactContext && reactContext != null) {
+      if (this.reactContext != null) {
+        this.reactContext.removeLifecycleEventListener(this);
+      }
+      reactContext.addLifecycleEventListener(this);
+      if (mapViewPool != null) {
+        // Pooled fragments send events through the previous context.
+        mapViewPool.clear();
+        mapViewPool = null;
+      }
+    }
     this.reactContext = reactContext;
   }
 
@@ -71,7 +104,9 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
   @NonNull
   @Override
   public NavViewLayout createViewInstance(@NonNull ThemedReactContext reactContext) {
-    return new NavViewLayout(reactContext);
+    NavViewLayout layout = new NavViewLayout(reactContext);
+    layout.setOnLayoutDirtyListener(this::markLayoutDirty);
+    return layout;
   }
 
   /** Clean up fragment when React Native view is destroyed */
@@ -81,15 +116,26 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
 
     int viewId = view.getId();
 
-    Choreographer.FrameCallback frameCallback = frameCallbackMap.remove(viewId);
-    if (frameCallback != null) {
-      Choreographer.getInstance().removeFrameCallback(frameCallback);
+    view.setOnLayoutDirtyListener(null);
+    dirtyLayouts.remove(view);
+
+    WeakReference<IMapViewFragment> weakReference = fragmentMap.remove(viewId);
+    PendingCommandQueue pendingCommands = pendingCommandMap.remove(viewId);
+    if (pendingCommands != null) {
+      // Runs without a map, which rejects the promises of pending calls.
+      pendingCommands.runAll();
     }
 
     FragmentActivity activity = (FragmentActivity) reactContext.getCurrentActivity();
     if (activity == null) return;
 
-    WeakReference<IMapViewFragment> weakReference = fragmentMap.remove(viewId);
+    MapViewPool.Slot slot = pooledSlotMap.remove(viewId);
+    if (slot != null && mapViewPool != null) {
+      slot.getFragment().setOnMapReadyListener(null);
+      mapViewPool.recycle(activity, slot);
+      return;
+    }
+
     if (weakReference != null) {
       IMapViewFragment fragment = weakReference.get();
       if (fragment != null && fragment.isAdded()) {
@@ -108,6 +154,9 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
       CustomTypes.FragmentType fragmentType =
           EnumTranslationUtil.getFragmentTypeFromJsValue(fragmentTypeJsValue);
       view.setFragmentType(fragmentType);
+      if (!view.isFragmentCreated()) {
+        pendingCommandMap.putIfAbsent(view.getId(), new PendingCommandQueue());
+      }
       createFragmentIfNeeded(view);
     }
   }
@@ -129,59 +178,20 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
     createFragmentIfNeeded(view);
   }
 
-  /** Map the "create" command to an integer */
+  /** Map the command names to integers */
   @Nullable
   @Override
   public Map<String, Integer> getCommandsMap() {
-    Map<String, Integer> map = new HashMap<>();
-    map.put(MOVE_CAMERA.toString(), MOVE_CAMERA.getValue());
-    map.put(SET_TRIP_PROGRESS_BAR_ENABLED.toString(), SET_TRIP_PROGRESS_BAR_ENABLED.getValue());
-    map.put(SET_NAVIGATION_UI_ENABLED.toString(), SET_NAVIGATION_UI_ENABLED.getValue());
-    map.put(SET_FOLLOWING_PERSPECTIVE.toString(), SET_FOLLOWING_PERSPECTIVE.getValue());
-    map.put(SET_NIGHT_MODE.toString(), SET_NIGHT_MODE.getValue());
-    map.put(SET_SPEEDOMETER_ENABLED.toString(), SET_SPEEDOMETER_ENABLED.getValue());
-    map.put(SET_SPEED_LIMIT_ICON_ENABLED.toString(), SET_SPEED_LIMIT_ICON_ENABLED.getValue());
-    map.put(SET_ZOOM_LEVEL.toString(), SET_ZOOM_LEVEL.getValue());
-    map.put(SET_INDOOR_ENABLED.toString(), SET_INDOOR_ENABLED.getValue());
-    map.put(SET_TRAFFIC_ENABLED.toString(), SET_TRAFFIC_ENABLED.getValue());
-    map.put(SET_COMPASS_ENABLED.toString(), SET_COMPASS_ENABLED.getValue());
-    map.put(SET_MY_LOCATION_BUTTON_ENABLED.toString(), SET_MY_LOCATION_BUTTON_ENABLED.getValue());
-    map.put(SET_MY_LOCATION_ENABLED.toString(), SET_MY_LOCATION_ENABLED.getValue());
-    map.put(SET_ROTATE_GESTURES_ENABLED.toString(), SET_ROTATE_GESTURES_ENABLED.getValue());
-    map.put(SET_SCROLL_GESTURES_ENABLED.toString(), SET_SCROLL_GESTURES_ENABLED.getValue());
-    map.put(
-        SET_SCROLL_GESTURES_ENABLED_DURING_ROTATE_OR_ZOOM.toString(),
-        SET_SCROLL_GESTURES_ENABLED_DURING_ROTATE_OR_ZOOM.getValue());
-    map.put(SET_ZOOM_CONTROLS_ENABLED.toString(), SET_ZOOM_CONTROLS_ENABLED.getValue());
-    map.put(SET_TILT_GESTURES_ENABLED.toString(), SET_TILT_GESTURES_ENABLED.getValue());
-    map.put(SET_ZOOM_GESTURES_ENABLED.toString(), SET_ZOOM_GESTURES_ENABLED.getValue());
-    map.put(SET_BUILDINGS_ENABLED.toString(), SET_BUILDINGS_ENABLED.getValue());
-    map.put(SET_MAP_TYPE.toString(), SET_MAP_TYPE.getValue());
-    map.put(SET_MAP_TOOLBAR_ENABLED.toString(), SET_MAP_TOOLBAR_ENABLED.getValue());
-    map.put(CLEAR_MAP_VIEW.toString(), CLEAR_MAP_VIEW.getValue());
-    map.put(RESET_MIN_MAX_ZOOM_LEVEL.toString(), RESET_MIN_MAX_ZOOM_LEVEL.getValue());
-    map.put(SET_MAP_STYLE.toString(), SET_MAP_STYLE.getValue());
-    map.put(ANIMATE_CAMERA.toString(), ANIMATE_CAMERA.getValue());
-    map.put(
-        SET_TRAFFIC_INCIDENT_CARDS_ENABLED.toString(),
-        SET_TRAFFIC_INCIDENT_CARDS_ENABLED.getValue());
-    map.put(SET_RECENTER_BUTTON_ENABLED.toString(), SET_RECENTER_BUTTON_ENABLED.getValue());
-    map.put(SHOW_ROUTE_OVERVIEW.toString(), SHOW_ROUTE_OVERVIEW.getValue());
-    map.put(REMOVE_MARKER.toString(), REMOVE_MARKER.getValue());
-    map.put(REMOVE_POLYLINE.toString(), REMOVE_POLYLINE.getValue());
-    map.put(REMOVE_POLYGON.toString(), REMOVE_POLYGON.getValue());
-    map.put(REMOVE_CIRCLE.toString(), REMOVE_CIRCLE.getValue());
-    map.put(REMOVE_GROUND_OVERLAY.toString(), REMOVE_GROUND_OVERLAY.getValue());
-    map.put(SET_HEADER_ENABLED.toString(), SET_HEADER_ENABLED.getValue());
-    map.put(SET_FOOTER_ENABLED.toString(), SET_FOOTER_ENABLED.getValue());
-    map.put(SET_PADDING.toString(), SET_PADDING.getValue());
-    return map;
+    return Command.getCommandsMap();
   }
 
   @Nullable
   public INavViewFragment getNavFragmentForRoot(ViewGroup root) {
-    IMapViewFragment fragment = getFragmentForRoot(root);
+    return toNavFragment(getFragmentForRoot(root));
+  }
 
+  @Nullable
+  private static INavViewFragment toNavFragment(@Nullable IMapViewFragment fragment) {
     if (fragment == null) {
       return null;
     }
@@ -217,6 +227,46 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
     return fragment;
   }
 
+  /**
+   * Keeps up to the given numbers of map and navigation fragments initialized for views that are
+   * mounted later. Passing zero for both disables the pool and removes the kept fragments.
+   */
+  public void configureMapViewPool(int mapViewCount, int navigationViewCount) {
+    if (mapViewPool == null) {
+      mapViewPool = new MapViewPool(reactContext);
+    }
+    mapViewPool.configure(mapViewCount, navigationViewCount);
+  }
+
+  /**
+   * Runs {@code runnable} on the UI thread once the map of the view is ready. Calls for views whose
+   * map is not ready are kept in order with the view's pending commands. A call with a key
+   * replaces a pending call with the same key.
+   */
+  public void runWhenMapReady(int viewId, @Nullable String key, Runnable runnable) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          PendingCommandQueue pendingCommands = pendingCommandMap.get(viewId);
+          if (pendingCommands != null) {
+            pendingCommands.add(key, runnable);
+          } else {
+            runnable.run();
+          }
+        });
+  }
+
+  public void runWhenMapReady(int viewId, Runnable runnable) {
+    runWhenMapReady(viewId, null, runnable);
+  }
+
+  /** Applies the commands issued before the map of the view was ready, in one pass. */
+  private void runPendingCommands(int viewId) {
+    PendingCommandQueue pendingCommands = pendingCommandMap.remove(viewId);
+    if (pendingCommands != null) {
+      pendingCommands.runAll();
+    }
+  }
+
   public void onNavigationReady() {
     for (WeakReference<IMapViewFragment> weakReference : fragmentMap.values()) {
       IMapViewFragment fragment = weakReference.get();
@@ -233,11 +283,80 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
     int commandIdInt = Integer.parseInt(commandId);
     Command command = Command.find(commandIdInt);
     assert command != null;
-    IMapViewFragment fragment;
+
+    if (command == BATCH) {
+      receiveBatch(root, args != null ? args.getArray(0) : null);
+      return;
+    }
+
+    PendingCommandQueue pendingCommands = pendingCommandMap.get(root.getId());
+    if (pendingCommands != null) {
+      pendingCommands.add(
+          getPendingCommandKey(command),
+          () -> runCommand(getFragmentForRoot(root), command, args));
+      return;
+    }
+
+    runCommand(getFragmentForRoot(root), command, args);
+  }
+
+  /**
+   * Runs the [command, args] pairs of a batch in order, with one lookup of the fragment. Before the
+   * map is ready, the commands are queued one by one so that they are collapsed like single ones.
+   */
+  private void receiveBatch(NavViewLayout root, @Nullable ReadableArray batch) {
+    if (batch == null) {
+      return;
+    }
+
+    PendingCommandQueue pendingCommands = pendingCommandMap.get(root.getId());
+    IMapViewFragment fragment = pendingCommands == null ? getFragmentForRoot(root) : null;
+    for (int i = 0; i < batch.size(); i++) {
+      ReadableArray entry = batch.getArray(i);
+      Command command = Command.find(entry.getInt(0));
+      if (command == null || command == BATCH) {
+        continue;
+      }
+      ReadableArray args = entry.size() > 1 ? entry.getArray(1) : null;
+
+      if (pendingCommands != null) {
+        pendingCommands.add(
+            getPendingCommandKey(command),
+            () -> runCommand(getFragmentForRoot(root), command, args));
+      } else {
+        runCommand(fragment, command, args);
+      }
+    }
+  }
+
+  /**
+   * Returns the key under which a command waits for the map. Camera moves share one key, so only
+   * the last one is applied, and each setting has its own key.
+   */
+  @Nullable
+  private static String getPendingCommandKey(Command command) {
+    switch (command) {
+      case MOVE_CAMERA:
+      case ANIMATE_CAMERA:
+      case SHOW_ROUTE_OVERVIEW:
+      case SET_FOLLOWING_PERSPECTIVE:
+        return "camera";
+      case REMOVE_MARKER:
+      case REMOVE_POLYLINE:
+      case REMOVE_POLYGON:
+      case REMOVE_CIRCLE:
+      case REMOVE_GROUND_OVERLAY:
+        return null;
+      default:
+        return command.toString();
+    }
+  }
+
+  private void runCommand(
+      @Nullable IMapViewFragment fragment, Command command, @Nullable ReadableArray args) {
     INavViewFragment navFragment;
     switch (command) {
       case MOVE_CAMERA:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment
@@ -246,49 +365,48 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
         }
         break;
       case SET_TRIP_PROGRESS_BAR_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setTripProgressBarEnabled(args.getBoolean(0));
         }
         break;
       case SET_NAVIGATION_UI_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setNavigationUiEnabled(args.getBoolean(0));
         }
         break;
       case SET_FOLLOWING_PERSPECTIVE:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.getMapController().setFollowingPerspective(args.getInt(0));
         }
         break;
       case SET_NIGHT_MODE:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setNightModeOption(args.getInt(0));
         }
         break;
       case SET_SPEEDOMETER_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setSpeedometerEnabled(args.getBoolean(0));
         }
         break;
       case SET_SPEED_LIMIT_ICON_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setSpeedLimitIconEnabled(args.getBoolean(0));
         }
         break;
       case SET_ZOOM_LEVEL:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           int level = args.getInt(0);
@@ -296,56 +414,48 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
         }
         break;
       case SET_INDOOR_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setIndoorEnabled(args.getBoolean(0));
         }
         break;
       case SET_TRAFFIC_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setTrafficEnabled(args.getBoolean(0));
         }
         break;
       case SET_COMPASS_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setCompassEnabled(args.getBoolean(0));
         }
         break;
       case SET_MY_LOCATION_BUTTON_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setCompassEnabled(args.getBoolean(0));
         }
         break;
       case SET_MY_LOCATION_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setMyLocationEnabled(args.getBoolean(0));
         }
         break;
       case SET_ROTATE_GESTURES_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setRotateGesturesEnabled(args.getBoolean(0));
         }
         break;
       case SET_SCROLL_GESTURES_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setScrollGesturesEnabled(args.getBoolean(0));
         }
         break;
       case SET_SCROLL_GESTURES_ENABLED_DURING_ROTATE_OR_ZOOM:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment
@@ -354,68 +464,58 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
         }
         break;
       case SET_TILT_GESTURES_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setTiltGesturesEnabled(args.getBoolean(0));
         }
         break;
       case SET_ZOOM_CONTROLS_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setZoomControlsEnabled(args.getBoolean(0));
         }
         break;
       case SET_ZOOM_GESTURES_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setZoomGesturesEnabled(args.getBoolean(0));
         }
         break;
       case SET_BUILDINGS_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setBuildingsEnabled(args.getBoolean(0));
         }
         break;
       case SET_MAP_TYPE:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setMapType(args.getInt(0));
         }
         break;
       case SET_MAP_TOOLBAR_ENABLED:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().setMapToolbarEnabled(args.getBoolean(0));
         }
         break;
       case CLEAR_MAP_VIEW:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           fragment.getMapController().clearMapView();
         }
         break;
       case RESET_MIN_MAX_ZOOM_LEVEL:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           fragment.getMapController().resetMinMaxZoomLevel();
         }
         break;
       case SET_MAP_STYLE:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.setMapStyle(args.getString(0));
         }
         break;
       case ANIMATE_CAMERA:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment
@@ -424,76 +524,70 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
         }
         break;
       case SET_TRAFFIC_INCIDENT_CARDS_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setTrafficIncidentCardsEnabled(args.getBoolean(0));
         }
         break;
       case SET_FOOTER_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setEtaCardEnabled(args.getBoolean(0));
         }
         break;
       case SET_HEADER_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setHeaderEnabled(args.getBoolean(0));
         }
         break;
       case SET_RECENTER_BUTTON_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setRecenterButtonEnabled(args.getBoolean(0));
         }
         break;
       case SHOW_ROUTE_OVERVIEW:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           navFragment.showRouteOverview();
         }
         break;
       case REMOVE_MARKER:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().removeMarker(args.getString(0));
         }
         break;
       case REMOVE_POLYLINE:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().removePolyline(args.getString(0));
         }
         break;
       case REMOVE_POLYGON:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().removePolygon(args.getString(0));
         }
         break;
       case REMOVE_CIRCLE:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().removeCircle(args.getString(0));
         }
         break;
       case REMOVE_GROUND_OVERLAY:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment.getMapController().removeGroundOverlay(args.getString(0));
         }
         break;
       case SET_PADDING:
-        fragment = getFragmentForRoot(root);
         if (fragment != null) {
           assert args != null;
           fragment
@@ -502,7 +596,7 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
         }
         break;
       case SET_REPORT_INCIDENT_BUTTON_ENABLED:
-        navFragment = getNavFragmentForRoot(root);
+        navFragment = toNavFragment(fragment);
         if (navFragment != null) {
           assert args != null;
           navFragment.setReportIncidentButtonEnabled(args.getBoolean(0));
@@ -529,6 +623,7 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
                 .put("onMapReady", MapBuilder.of("registrationName", "onMapReady"))
                 .put("onMapClick", MapBuilder.of("registrationName", "onMapClick"))
                 .put("onMarkerClick", MapBuilder.of("registrationName", "onMarkerClick"))
+                .put("onClusterClick", MapBuilder.of("registrationName", "onClusterClick"))
                 .put("onPolylineClick", MapBuilder.of("registrationName", "onPolylineClick"))
                 .put("onPolygonClick", MapBuilder.of("registrationName", "onPolygonClick"))
                 .put("onCircleClick", MapBuilder.of("registrationName", "onCircleClick"))
@@ -573,20 +668,43 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
   private void commitFragmentTransaction(
       NavViewLayout view, CustomTypes.FragmentType fragmentType) {
 
-    setupLayout(view);
+    markLayoutDirty(view);
 
+    int viewId = view.getId();
     FragmentActivity activity = (FragmentActivity) reactContext.getCurrentActivity();
-    if (activity == null) return;
+    if (activity == null) {
+      // The view never gets a map, which rejects the promises of pending calls.
+      runPendingCommands(viewId);
+      return;
+    }
+
+    if (mapViewPool != null && mapViewPool.isEnabled()) {
+      MapViewPool.Slot slot = mapViewPool.obtain(activity, fragmentType, view);
+      IMapViewFragment pooledFragment = slot.getFragment();
+      if (fragmentType == CustomTypes.FragmentType.NAVIGATION
+          && view.getStylingOptions() != null) {
+        pooledFragment.setStylingOptions(view.getStylingOptions());
+      }
+      pooledSlotMap.put(viewId, slot);
+      fragmentMap.put(viewId, new WeakReference<>(pooledFragment));
+      pooledFragment.setOnMapReadyListener(() -> runPendingCommands(viewId));
+      if (pooledFragment.getMapController() != null) {
+        runPendingCommands(viewId);
+      }
+      pooledFragment.setViewTag(viewId);
+      return;
+    }
 
-    int viewId = view.getId();
     Fragment fragment;
 
     if (fragmentType == CustomTypes.FragmentType.MAP) {
       MapViewFragment mapFragment = new MapViewFragment(reactContext, viewId);
+      mapFragment.setOnMapReadyListener(() -> runPendingCommands(viewId));
       fragmentMap.put(viewId, new WeakReference<IMapViewFragment>(mapFragment));
       fragment = mapFragment;
     } else {
       NavViewFragment navFragment = new NavViewFragment(reactContext, viewId);
+      navFragment.setOnMapReadyListener(() -> runPendingCommands(viewId));
       if (view.getStylingOptions() != null) {
         navFragment.setStylingOptions(view.getStylingOptions());
       }
@@ -602,45 +720,85 @@ public class NavViewManager extends SimpleViewManager<NavViewLayout> {
   }
 
   /**
-   * Set up the layout for each frame. This official RN way to do this, but a bit hacky, and should
-   * be changed when better solution is found.
+   * Schedules a layout of the view's children on the next frame. All views share one frame
+   * callback, which is only posted while a view is dirty and the host is resumed.
    */
-  public void setupLayout(NavViewLayout view) {
-    int viewId = view.getId();
+  public void markLayoutDirty(NavViewLayout view) {
+    dirtyLayouts.add(view);
+    scheduleLayout();
+  }
 
-    // Remove any existing callback for this viewId
-    Choreographer.FrameCallback existingCallback = frameCallbackMap.get(viewId);
-    if (existingCallback != null) {
-      Choreographer.getInstance().removeFrameCallback(existingCallback);
-    }
-
-    Choreographer.FrameCallback frameCallback =
-        new Choreographer.FrameCallback() {
-          @Override
-          public void doFrame(long frameTimeNanos) {
-            // Check if this view still has a valid fragment before proceeding
-            IMapViewFragment fragment = getFragmentForViewId(viewId);
-            if (fragment != null) {
-              manuallyLayoutChildren(view);
-              view.getViewTreeObserver().dispatchOnGlobalLayout();
-              Choreographer.getInstance().postFrameCallback(this);
-            } else {
-              // Fragment no longer exists or was garbage collected, remove callback and stop
-              frameCallbackMap.remove(viewId);
-            }
-          }
-        };
+  private void scheduleLayout() {
+    if (!isLayoutFrameCallbackPosted && !isHostPaused && !dirtyLayouts.isEmpty()) {
+      isLayoutFrameCallbackPosted = true;
+      Choreographer.getInstance().postFrameCallback(layoutFrameCallback);
+    }
+  }
+
+  private void layoutDirtyViews() {
+    isLayoutFrameCallbackPosted = false;
+    List<NavViewLayout> views = new ArrayList<>(dirtyLayouts);
+    dirtyLayouts.clear();
+
+    for (NavViewLayout view : views) {
+      // Detached views are marked dirty again when they are attached.
+      if (!view.isAttachedToWindow() || getFragmentForRoot(view) == null) {
+        continue;
+      }
+
+      // Measuring and laying out the view itself clears its pending layout request, so that
+      // layout requests from its children reach it again.
+      view.measure(
+          View.MeasureSpec.makeMeasureSpec(view.getWidth(), View.MeasureSpec.EXACTLY),
+          View.MeasureSpec.makeMeasureSpec(view.getHeight(), View.MeasureSpec.EXACTLY));
+      view.layout(view.getLeft(), view.getTop(), view.getRight(), view.getBottom());
+      manuallyLayoutChildren(view);
+      view.getViewTreeObserver().dispatchOnGlobalLayout();
+    }
+  }
 
-    frameCallbackMap.put(viewId, frameCallback);
-    Choreographer.getInstance().postFrameCallback(frameCallback);
+  @Override
+  public void onHostResume() {
+    isHostPaused = false;
+    scheduleLayout();
+  }
+
+  @Override
+  public void onHostPause() {
+    isHostPaused = true;
+    if (isLayoutFrameCallbackPosted) {
+      isLayoutFrameCallbackPosted = false;
+      Choreographer.getInstance().removeFrameCallback(layoutFrameCallback);
+    }
+  }
+
+  @Override
+  public void onHostDestroy() {
+    onHostPause();
+    dirtyLayouts.clear();
+    // Maps that are not ready yet are destroyed with the activity. Their pending calls run without
+    // a fragment, which rejects their promises.
+    List<PendingCommandQueue> pendingCommandQueues = new ArrayList<>(pendingCommandMap.values());
+    for (Integer viewId : pendingCommandMap.keySet()) {
+      fragmentMap.remove(viewId);
+    }
+    pendingCommandMap.clear();
+    for (PendingCommandQueue pendingCommands : pendingCommandQueues) {
+      pendingCommands.runAll();
+    }
+    pooledSlotMap.clear();
+    if (mapViewPool != null) {
+      mapViewPool.clear();
+    }
   }
 
   /** Layout all children properly */
   public void manuallyLayoutChildren(NavViewLayout view) {
     IMapViewFragment fragment = getFragmentForRoot(view);
     if (fragment != null && fragment.isAdded()) {
-      View childView = fragment.getView();
-      if (childView != null) {
+      // The child is the fragment's view, or the container of a fragment from the pool.
+      for (int i = 0; i < view.getChildCount(); i++) {
+        View childView = view.getChildAt(i);
         childView.measure(
             View.MeasureSpec.makeMeasureSpec(view.getMeasuredWidth(), View.MeasureSpec.EXACTLY),
             View.MeasureSpec.makeMeasureSpec(view.getMeasuredHeight(), View.MeasureSpec.EXACTLY));
@@ -14,11 +14,13 @@
 package com.google.android.react.navsdk;
 
 import android.location.Location;
+import android.util.Pair;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
@@ -28,10 +30,16 @@ import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.GroundOverlay;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
+import com.google.android.gms.maps.model.PolylineOptions;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This exposes a series of methods that can be called diretly from the React Native code. They have
@@ -61,7 +69,8 @@ public class NavViewModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void getCameraPosition(Integer viewId, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -88,7 +97,8 @@ public class NavViewModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void getMyLocation(Integer viewId, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -112,7 +122,8 @@ public class NavViewModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void getUiSettings(Integer viewId, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -145,7 +156,8 @@ public class NavViewModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void isMyLocationEnabled(Integer viewId, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -158,7 +170,8 @@ public class NavViewModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void addMarker(int viewId, ReadableMap markerOptionsMap, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
           if (fragment == null) {
@@ -171,9 +184,64 @@ public class NavViewModule extends ReactContextBaseJavaModule {
         });
   }
 
+  /**
+   * Changes the given properties of an existing marker in place. Resolves with the updated marker,
+   * or null if there is no marker with the given id.
+   */
+  @ReactMethod
+  public void updateMarker(
+      int viewId, String id, ReadableMap markerOptionsMap, final Promise promise) {
+    Map<String, Object> optionsMap = markerOptionsMap.toHashMap();
+    if (optionsMap.containsKey("position")
+        && ObjectTranslationUtil.getLatLngFromOptions(optionsMap, "position") == null) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE);
+      return;
+    }
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          Marker marker = fragment.getMapController().updateMarker(id, optionsMap);
+          promise.resolve(marker != null ? ObjectTranslationUtil.getMapFromMarker(marker) : null);
+        });
+  }
+
+  /**
+   * Moves an existing marker to a new position over the given duration. Resolves with false if
+   * there is no marker with the given id.
+   */
+  @ReactMethod
+  public void animateMarkerTo(
+      int viewId, String id, ReadableMap position, double durationMs, final Promise promise) {
+    LatLng latLng = ObjectTranslationUtil.toLatLng(position.toHashMap());
+    if (latLng == null) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE);
+      return;
+    }
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          promise.resolve(
+              fragment.getMapController().animateMarkerTo(id, latLng, (long) durationMs));
+        });
+  }
+
   @ReactMethod
   public void addPolyline(int viewId, ReadableMap polylineOptionsMap, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    Map<String, Object> optionsMap = polylineOptionsMap.toHashMap();
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
           if (fragment == null) {
@@ -181,15 +249,25 @@ public class NavViewModule extends ReactContextBaseJavaModule {
             return;
           }
 
-          Polyline polyline =
-              fragment.getMapController().addPolyline(polylineOptionsMap.toHashMap());
-          promise.resolve(ObjectTranslationUtil.getMapFromPolyline(polyline));
+          Polyline polyline;
+          try {
+            polyline = fragment.getMapController().addPolyline(optionsMap);
+          } catch (IllegalArgumentException e) {
+            promise.reject(
+                JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+            return;
+          }
+          promise.resolve(
+              ObjectTranslationUtil.getResponseFromPolyline(
+                  fragment.getMapController(), polyline, optionsMap));
         });
   }
 
   @ReactMethod
   public void addPolygon(int viewId, ReadableMap polygonOptionsMap, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    Map<String, Object> optionsMap = polygonOptionsMap.toHashMap();
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
           if (fragment == null) {
@@ -197,14 +275,22 @@ public class NavViewModule extends ReactContextBaseJavaModule {
             return;
           }
 
-          Polygon polygon = fragment.getMapController().addPolygon(polygonOptionsMap.toHashMap());
-          promise.resolve(ObjectTranslationUtil.getMapFromPolygon(polygon));
+          Polygon polygon;
+          try {
+            polygon = fragment.getMapController().addPolygon(optionsMap);
+          } catch (IllegalArgumentException e) {
+            promise.reject(
+                JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+            return;
+          }
+          promise.resolve(ObjectTranslationUtil.getResponseFromPolygon(polygon, optionsMap));
         });
   }
 
   @ReactMethod
   public void addCircle(int viewId, ReadableMap circleOptionsMap, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
           if (fragment == null) {
@@ -219,7 +305,8 @@ public class NavViewModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void addGroundOverlay(int viewId, ReadableMap overlayOptionsMap, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    mNavViewManager.runWhenMapReady(
+        viewId,
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
           if (fragment == null) {
@@ -233,6 +320,417 @@ public class NavViewModule extends ReactContextBaseJavaModule {
         });
   }
 
+  /**
+   * Adds multiple markers. Options are parsed on the calling thread, and the markers are added to
+   * the map in slices that fit in a frame, each with its icon. Resolves with the marker ids in the
+   * order of the options.
+   */
+  @ReactMethod
+  public void addMarkers(int viewId, ReadableArray markerOptionsArray, final Promise promise) {
+    List<Pair<MarkerOptions, String>> optionsList = new ArrayList<>(markerOptionsArray.size());
+    try {
+      for (int i = 0; i < markerOptionsArray.size(); i++) {
+        Map<String, Object> optionsMap = markerOptionsArray.getMap(i).toHashMap();
+        optionsList.add(
+            new Pair<>(
+                MapViewController.createMarkerOptionsWithoutIcon(optionsMap),
+                CollectionUtil.getString("imgPath", optionsMap)));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE, e);
+      return;
+    }
+
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          MapViewController controller = fragment.getMapController();
+          ChunkedUiTask.run(
+              optionsList,
+              options -> {
+                MapViewController.setMarkerIcon(options.first, options.second);
+                Marker marker = controller.addMarker(options.first);
+                return marker != null ? marker.getId() : null;
+              },
+              ids -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids)));
+        });
+  }
+
+  /**
+   * Adds multiple polylines. Options are parsed on the calling thread and the polylines are added
+   * to the map in slices that fit in a frame. Resolves with the polyline ids in the order of the
+   * options.
+   */
+  @ReactMethod
+  public void addPolylines(int viewId, ReadableArray polylineOptionsArray, final Promise promise) {
+    List<Pair<PolylineOptions, Boolean>> optionsList =
+        new ArrayList<>(polylineOptionsArray.size());
+    try {
+      for (int i = 0; i < polylineOptionsArray.size(); i++) {
+        Map<String, Object> optionsMap = polylineOptionsArray.getMap(i).toHashMap();
+        optionsList.add(
+            new Pair<>(
+                MapViewController.createPolylineOptions(optionsMap),
+                MapViewController.isLevelOfDetailEnabled(optionsMap)));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+      return;
+    }
+
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          MapViewController controller = fragment.getMapController();
+          ChunkedUiTask.run(
+              optionsList,
+              options -> {
+                Polyline polyline =
+                    options.first != null
+                        ? controller.addPolyline(options.first, options.second)
+                        : null;
+                return polyline != null ? polyline.getId() : null;
+              },
+              ids -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids)));
+        });
+  }
+
+  /**
+   * Removes multiple markers in slices that fit in a frame. Resolves with the number of markers
+   * removed.
+   */
+  @ReactMethod
+  public void removeMarkers(int viewId, ReadableArray ids, final Promise promise) {
+    List<String> idList = getStringListFromArray(ids);
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          OverlayRegistry registry = fragment.getMapController().getOverlayRegistry();
+          ChunkedUiTask.run(
+              idList,
+              registry::removeMarker,
+              results -> promise.resolve(ObjectTranslationUtil.countTrue(results)));
+        });
+  }
+
+  @ReactMethod
+  public void setClusteringOptions(int viewId, ReadableMap options) {
+    Map<String, Object> optionsMap = options.toHashMap();
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        "setClusteringOptions",
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            return;
+          }
+
+          fragment.getMapController().setClusteringOptions(optionsMap);
+        });
+  }
+
+  /**
+   * Adds markers managed by the clusterer. Resolves with stable ids for the markers, which are
+   * also reported by marker click events while a marker is shown on its own.
+   */
+  @ReactMethod
+  public void addClusteredMarkers(
+      int viewId, ReadableArray markerOptionsArray, final Promise promise) {
+    List<Pair<MarkerOptions, String>> optionsList = new ArrayList<>(markerOptionsArray.size());
+    try {
+      for (int i = 0; i < markerOptionsArray.size(); i++) {
+        Map<String, Object> optionsMap = markerOptionsArray.getMap(i).toHashMap();
+        optionsList.add(
+            new Pair<>(
+                MapViewController.createMarkerOptionsWithoutIcon(optionsMap),
+                CollectionUtil.getString("imgPath", optionsMap)));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE, e);
+      return;
+    }
+
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          MapViewController controller = fragment.getMapController();
+          ChunkedUiTask.run(
+              optionsList,
+              options -> {
+                MapViewController.setMarkerIcon(options.first, options.second);
+                return controller.addClusteredMarker(options.first);
+              },
+              ids -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids)));
+        });
+  }
+
+  @ReactMethod
+  public void removeClusteredMarkers(int viewId, ReadableArray ids, final Promise promise) {
+    List<String> idList = getStringListFromArray(ids);
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          MapViewController controller = fragment.getMapController();
+          int removed = 0;
+          for (String id : idList) {
+            if (controller.removeClusteredMarker(id)) {
+              removed++;
+            }
+          }
+          promise.resolve(removed);
+        });
+  }
+
+  @ReactMethod
+  public void clearClusteredMarkers(int viewId) {
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            return;
+          }
+
+          fragment.getMapController().clearClusteredMarkers();
+        });
+  }
+
+  /**
+   * Adds markers that are only created on the map while they are in or near the visible region.
+   * Resolves with stable ids for the markers.
+   */
+  @ReactMethod
+  public void addVirtualMarkers(
+      int viewId, ReadableArray markerOptionsArray, final Promise promise) {
+    List<VirtualMarkerLayer.Definition> definitions = new ArrayList<>(markerOptionsArray.size());
+    try {
+      for (int i = 0; i < markerOptionsArray.size(); i++) {
+        definitions.add(
+            VirtualMarkerLayer.parseDefinition(markerOptionsArray.getMap(i).toHashMap()));
+      }
+    } catch (IllegalArgumentException e) {
+      promise.reject(JsErrors.INVALID_MARKER_ERROR_CODE, JsErrors.INVALID_MARKER_ERROR_MESSAGE, e);
+      return;
+    }
+
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          List<String> ids = fragment.getMapController().addVirtualMarkers(definitions);
+          promise.resolve(ObjectTranslationUtil.getArrayFromStrings(ids));
+        });
+  }
+
+  @ReactMethod
+  public void removeVirtualMarkers(int viewId, ReadableArray ids, final Promise promise) {
+    List<String> idList = getStringListFromArray(ids);
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          promise.resolve(fragment.getMapController().removeVirtualMarkers(idList));
+        });
+  }
+
+  @ReactMethod
+  public void clearVirtualMarkers(int viewId) {
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            return;
+          }
+
+          fragment.getMapController().clearVirtualMarkers();
+        });
+  }
+
+  @ReactMethod
+  public void removeOverlays(int viewId, ReadableArray ids, final Promise promise) {
+    List<String> idList = getStringListFromArray(ids);
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          promise.resolve(fragment.getMapController().removeOverlays(idList));
+        });
+  }
+
+  /**
+   * Resolves with the full details of the overlay with the given id, of any type, or null if there
+   * is no such overlay.
+   */
+  @ReactMethod
+  public void getOverlay(int viewId, String id, final Promise promise) {
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          promise.resolve(ObjectTranslationUtil.getMapFromOverlay(fragment.getMapController(), id));
+        });
+  }
+
+  @ReactMethod
+  public void getOverlayCount(int viewId, final Promise promise) {
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          promise.resolve(fragment.getMapController().getOverlayCount());
+        });
+  }
+
+  /**
+   * Resolves with the ids of the polygons and circles that contain the point. The lookup runs on a
+   * background thread.
+   */
+  @ReactMethod
+  public void queryContainingOverlays(int viewId, ReadableMap latLngMap, final Promise promise) {
+    LatLng latLng = ObjectTranslationUtil.getLatLngFromMap(latLngMap.toHashMap());
+    if (latLng == null) {
+      promise.reject(JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+      return;
+    }
+
+    queryContainingOverlays(
+        viewId,
+        Collections.singletonList(latLng),
+        promise,
+        results -> promise.resolve(ObjectTranslationUtil.getArrayFromStrings(results.get(0))));
+  }
+
+  /**
+   * Resolves with one array of ids of the polygons and circles containing each point, in the order
+   * of the points.
+   */
+  @ReactMethod
+  public void queryContainingOverlaysBatch(
+      int viewId, ReadableArray latLngs, final Promise promise) {
+    List<LatLng> points = ObjectTranslationUtil.getLatLngListFromArray(latLngs);
+    if (points == null) {
+      promise.reject(JsErrors.INVALID_GEOMETRY_ERROR_CODE, JsErrors.INVALID_GEOMETRY_ERROR_MESSAGE);
+      return;
+    }
+
+    queryContainingOverlays(
+        viewId,
+        points,
+        promise,
+        results -> promise.resolve(ObjectTranslationUtil.getArrayFromStringLists(results)));
+  }
+
+  private void queryContainingOverlays(
+      int viewId, List<LatLng> points, Promise promise, Consumer<List<List<String>>> callback) {
+    mNavViewManager.runWhenMapReady(
+        viewId,
+        () -> {
+          IMapViewFragment fragment = mNavViewManager.getFragmentForViewId(viewId);
+          if (fragment == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+
+          fragment.getMapController().getGeofenceIndex().query(points, callback);
+        });
+  }
+
+  /**
+   * Sets how many map and navigation fragments are kept initialized for views mounted later. Zero
+   * for both disables the pool.
+   */
+  @ReactMethod
+  public void configureMapViewPool(ReadableMap options, final Promise promise) {
+    Map<String, Object> optionsMap = options.toHashMap();
+    int mapViewCount = CollectionUtil.getInt("mapViews", optionsMap, 0);
+    int navigationViewCount = CollectionUtil.getInt("navigationViews", optionsMap, 0);
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          mNavViewManager.configureMapViewPool(mapViewCount, navigationViewCount);
+          promise.resolve(null);
+        });
+  }
+
+  /** Removes the map styles loaded from URLs from the memory and disk caches. */
+  @ReactMethod
+  public void clearMapStyleCache(final Promise promise) {
+    MapStyleLoader.getInstance(getReactApplicationContext()).clear(() -> promise.resolve(null));
+  }
+
+  /** Resolves with the hit and miss counts and the size of the shared marker image cache. */
+  @ReactMethod
+  public void getMarkerIconCacheStats(final Promise promise) {
+    WritableMap map = Arguments.createMap();
+    map.putInt("hitCount", BitmapDescriptorCache.hitCount());
+    map.putInt("missCount", BitmapDescriptorCache.missCount());
+    map.putInt("size", BitmapDescriptorCache.size());
+    promise.resolve(map);
+  }
+
+  static List<String> getStringListFromArray(ReadableArray array) {
+    List<String> list = new ArrayList<>(array.size());
+    for (int i = 0; i < array.size(); i++) {
+      list.add(array.getString(i));
+    }
+    return list;
+  }
+
   @Override
   public boolean canOverrideExistingModule() {
     return true;
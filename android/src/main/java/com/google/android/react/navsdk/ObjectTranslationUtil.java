@@ -15,31 +15,50 @@ package com.google.android.react.navsdk;
 
 import android.location.Location;
 import android.os.Build;
+import androidx.annotation.Nullable;
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.GroundOverlay;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
 import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
 import com.google.android.libraries.navigation.AlternateRoutesStrategy;
 import com.google.android.libraries.navigation.DisplayOptions;
 import com.google.android.libraries.navigation.NavigationRoadStretchRenderingData;
 import com.google.android.libraries.navigation.RouteSegment;
 import com.google.android.libraries.navigation.RoutingOptions;
+import com.google.android.libraries.navigation.TimeAndDistance;
 import com.google.android.libraries.navigation.Waypoint;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 public class ObjectTranslationUtil {
   public static WritableMap getMapFromRouteSegment(RouteSegment routeSegment) {
+    return getMapFromRouteSegment(routeSegment, CustomTypes.GeometryFormat.LAT_LNG, false);
+  }
+
+  /** Returns the segment with its geometry in {@code geometryFormat} and its point count. */
+  public static WritableMap getMapFromRouteSegment(
+      RouteSegment routeSegment, CustomTypes.GeometryFormat geometryFormat) {
+    return getMapFromRouteSegment(routeSegment, geometryFormat, true);
+  }
+
+  private static WritableMap getMapFromRouteSegment(
+      RouteSegment routeSegment,
+      CustomTypes.GeometryFormat geometryFormat,
+      boolean includePointCount) {
     WritableMap parentMap = Arguments.createMap();
 
     // Destination latLng
-    WritableMap mapDestLatLng = Arguments.createMap();
     parentMap.putMap("destinationLatLng", getMapFromLatLng(routeSegment.getDestinationLatLng()));
 
     // Destination waypoint
@@ -47,11 +66,12 @@ public class ObjectTranslationUtil {
         "destinationWaypoint", getMapFromWaypoint(routeSegment.getDestinationWaypoint()));
 
     // Lat Lngs
-    WritableArray latLngArr = Arguments.createArray();
-    for (LatLng latLng : routeSegment.getLatLngs()) {
-      latLngArr.pushMap(getMapFromLatLng(latLng));
+    List<LatLng> latLngs = routeSegment.getLatLngs();
+    if (includePointCount) {
+      parentMap.putInt("pointCount", latLngs.size());
     }
-    parentMap.putArray("segmentLatLngList", latLngArr);
+    GeometryUtil.putGeometry(
+        parentMap, "segmentLatLngList", latLngs, 0, latLngs.size(), geometryFormat);
 
     // Traffic data
     WritableArray stretchRenderingDataArr = Arguments.createArray();
@@ -106,6 +126,45 @@ public class ObjectTranslationUtil {
     return map;
   }
 
+  public static WritableMap getMapFromNavInfo(NavInfo navInfo) {
+    WritableMap map = Arguments.createMap();
+
+    map.putInt("navState", navInfo.getNavState());
+    map.putBoolean("routeChanged", navInfo.getRouteChanged());
+    if (navInfo.getDistanceToCurrentStepMeters() != null)
+      map.putInt("distanceToCurrentStepMeters", navInfo.getDistanceToCurrentStepMeters());
+    if (navInfo.getDistanceToFinalDestinationMeters() != null)
+      map.putInt("distanceToFinalDestinationMeters", navInfo.getDistanceToFinalDestinationMeters());
+    if (navInfo.getDistanceToNextDestinationMeters() != null)
+      map.putInt("distanceToNextDestinationMeters", navInfo.getDistanceToNextDestinationMeters());
+    if (navInfo.getTimeToCurrentStepSeconds() != null)
+      map.putInt("timeToCurrentStepSeconds", navInfo.getTimeToCurrentStepSeconds());
+    if (navInfo.getTimeToFinalDestinationSeconds() != null)
+      map.putInt("timeToFinalDestinationSeconds", navInfo.getTimeToFinalDestinationSeconds());
+    if (navInfo.getTimeToNextDestinationSeconds() != null)
+      map.putInt("timeToNextDestinationSeconds", navInfo.getTimeToNextDestinationSeconds());
+    if (navInfo.getCurrentStep() != null)
+      map.putMap("currentStep", getMapFromStepInfo(navInfo.getCurrentStep()));
+
+    WritableArray remainingSteps = Arguments.createArray();
+    if (navInfo.getRemainingSteps() != null) {
+      for (StepInfo info : navInfo.getRemainingSteps()) {
+        remainingSteps.pushMap(getMapFromStepInfo(info));
+      }
+    }
+    map.putArray("getRemainingSteps", remainingSteps);
+
+    return map;
+  }
+
+  public static WritableMap getMapFromTimeAndDistance(TimeAndDistance timeAndDistance) {
+    WritableMap map = Arguments.createMap();
+    map.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
+    map.putInt("meters", timeAndDistance.getMeters());
+    map.putInt("seconds", timeAndDistance.getSeconds());
+    return map;
+  }
+
   public static DisplayOptions getDisplayOptionsFromMap(Map map) {
     DisplayOptions options = new DisplayOptions();
 
@@ -177,6 +236,34 @@ public class ObjectTranslationUtil {
         (Double) map.get(Constants.LAT_FIELD_KEY), (Double) map.get(Constants.LNG_FIELD_KEY));
   }
 
+  /**
+   * Returns the position stored under {@code key} in a JS options map, or null if it is missing or
+   * does not have numeric coordinates.
+   */
+  @Nullable
+  public static LatLng getLatLngFromOptions(Map<String, Object> optionsMap, String key) {
+    return toLatLng(optionsMap.get(key));
+  }
+
+  /**
+   * Returns the position given by a JS {@code {lat, lng}} map, or null if {@code value} is not
+   * such a map with numeric coordinates.
+   */
+  @Nullable
+  public static LatLng toLatLng(@Nullable Object value) {
+    if (!(value instanceof Map)) {
+      return null;
+    }
+
+    Object lat = ((Map) value).get(Constants.LAT_FIELD_KEY);
+    Object lng = ((Map) value).get(Constants.LNG_FIELD_KEY);
+    if (!(lat instanceof Number) || !(lng instanceof Number)) {
+      return null;
+    }
+
+    return new LatLng(((Number) lat).doubleValue(), ((Number) lng).doubleValue());
+  }
+
   public static WritableMap getMapFromLocation(Location location) {
     WritableMap map = Arguments.createMap();
     map.putDouble(Constants.LNG_FIELD_KEY, location.getLongitude());
@@ -232,10 +319,15 @@ public class ObjectTranslationUtil {
   }
 
   public static WritableMap getMapFromMarker(Marker marker) {
+    return getMapFromMarker(marker, marker.getId());
+  }
+
+  /** Returns the marker's properties, reporting {@code id} instead of the marker's own id. */
+  public static WritableMap getMapFromMarker(Marker marker, String id) {
     WritableMap map = Arguments.createMap();
 
     map.putMap("position", getMapFromLatLng(marker.getPosition()));
-    map.putString("id", marker.getId());
+    map.putString("id", id);
     map.putString("title", marker.getTitle());
     map.putDouble("alpha", marker.getAlpha());
     map.putDouble("rotation", marker.getRotation());
@@ -260,10 +352,15 @@ public class ObjectTranslationUtil {
   }
 
   public static WritableMap getMapFromPolyline(Polyline polyline) {
+    return getMapFromPolyline(polyline, polyline.getPoints());
+  }
+
+  /** Returns the polyline's properties, reporting {@code points} instead of the shown points. */
+  public static WritableMap getMapFromPolyline(Polyline polyline, List<LatLng> points) {
     WritableMap map = Arguments.createMap();
     WritableArray pointsArr = Arguments.createArray();
 
-    for (LatLng point : polyline.getPoints()) {
+    for (LatLng point : points) {
       pointsArr.pushMap(ObjectTranslationUtil.getMapFromLatLng(point));
     }
     map.putArray("points", pointsArr);
@@ -309,4 +406,132 @@ public class ObjectTranslationUtil {
 
     return map;
   }
+
+  /** Returns the strings as an array, keeping null entries. */
+  public static WritableArray getArrayFromStrings(List<String> strings) {
+    WritableArray array = Arguments.createArray();
+    for (String value : strings) {
+      if (value == null) {
+        array.pushNull();
+      } else {
+        array.pushString(value);
+      }
+    }
+    return array;
+  }
+
+  /**
+   * Returns a compact handle for an overlay: its id, its type and optionally the bounds of {@code
+   * boundsPoints}. Used instead of the full overlay when JS does not need its geometry back.
+   */
+  public static WritableMap getHandleFromOverlay(
+      String id, String type, @Nullable List<LatLng> boundsPoints) {
+    WritableMap map = Arguments.createMap();
+    map.putString("id", id);
+    map.putString("type", type);
+
+    if (boundsPoints != null && !boundsPoints.isEmpty()) {
+      LatLngBounds.Builder builder = LatLngBounds.builder();
+      for (LatLng point : boundsPoints) {
+        builder.include(point);
+      }
+      LatLngBounds bounds = builder.build();
+      WritableMap boundsMap = Arguments.createMap();
+      boundsMap.putMap("northEast", getMapFromLatLng(bounds.northeast));
+      boundsMap.putMap("southWest", getMapFromLatLng(bounds.southwest));
+      map.putMap("bounds", boundsMap);
+    }
+
+    return map;
+  }
+
+  public static WritableMap getResponseFromPolyline(
+      MapViewController controller, Polyline polyline, Map<String, Object> optionsMap) {
+    List<LatLng> points = controller.getPolylinePoints(polyline);
+    if (!CollectionUtil.getBool("compactResponse", optionsMap, false)) {
+      return getMapFromPolyline(polyline, points);
+    }
+    return getHandleFromOverlay(
+        polyline.getId(),
+        Constants.OVERLAY_TYPE_POLYLINE,
+        CollectionUtil.getBool("includeBounds", optionsMap, false) ? points : null);
+  }
+
+  public static WritableMap getResponseFromPolygon(
+      Polygon polygon, Map<String, Object> optionsMap) {
+    if (!CollectionUtil.getBool("compactResponse", optionsMap, false)) {
+      return getMapFromPolygon(polygon);
+    }
+    return getHandleFromOverlay(
+        polygon.getId(),
+        Constants.OVERLAY_TYPE_POLYGON,
+        CollectionUtil.getBool("includeBounds", optionsMap, false) ? polygon.getPoints() : null);
+  }
+
+  /**
+   * Returns the full details of the overlay with the given id, of any type, with its type added
+   * as {@code type}. Returns null if there is no such overlay.
+   */
+  @Nullable
+  public static WritableMap getMapFromOverlay(MapViewController controller, String id) {
+    OverlayRegistry registry = controller.getOverlayRegistry();
+    WritableMap map = null;
+    String type = null;
+    if (registry.getMarker(id) != null) {
+      map = getMapFromMarker(registry.getMarker(id));
+      type = Constants.OVERLAY_TYPE_MARKER;
+    } else if (registry.getPolyline(id) != null) {
+      Polyline polyline = registry.getPolyline(id);
+      map = getMapFromPolyline(polyline, controller.getPolylinePoints(polyline));
+      type = Constants.OVERLAY_TYPE_POLYLINE;
+    } else if (registry.getPolygon(id) != null) {
+      map = getMapFromPolygon(registry.getPolygon(id));
+      type = Constants.OVERLAY_TYPE_POLYGON;
+    } else if (registry.getCircle(id) != null) {
+      map = getMapFromCircle(registry.getCircle(id));
+      type = Constants.OVERLAY_TYPE_CIRCLE;
+    } else if (registry.getGroundOverlay(id) != null) {
+      map = getMapFromGroundOverlay(registry.getGroundOverlay(id));
+      type = Constants.OVERLAY_TYPE_GROUND_OVERLAY;
+    }
+
+    if (map != null) {
+      map.putString("type", type);
+    }
+    return map;
+  }
+
+  /** Returns one array of strings per list, in the same order. */
+  public static WritableArray getArrayFromStringLists(List<List<String>> lists) {
+    WritableArray array = Arguments.createArray();
+    for (List<String> strings : lists) {
+      array.pushArray(getArrayFromStrings(strings));
+    }
+    return array;
+  }
+
+  /** Reads an array of {@code {lat, lng}} maps. Returns null if any entry is not a LatLng. */
+  @Nullable
+  public static List<LatLng> getLatLngListFromArray(ReadableArray array) {
+    List<LatLng> list = new ArrayList<>(array.size());
+    for (int i = 0; i < array.size(); i++) {
+      ReadableMap map = array.getMap(i);
+      LatLng latLng = map != null ? getLatLngFromMap(map.toHashMap()) : null;
+      if (latLng == null) {
+        return null;
+      }
+      list.add(latLng);
+    }
+    return list;
+  }
+
+  public static int countTrue(List<Boolean> values) {
+    int count = 0;
+    for (Boolean value : values) {
+      if (Boolean.TRUE.equals(value)) {
+        count++;
+      }
+    }
+    return count;
+  }
 }
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Circle;
+import com.google.android.gms.maps.model.GroundOverlay;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.Polygon;
+import com.google.android.gms.maps.model.Polyline;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the overlays added to a map keyed by their id, so they can be looked up and removed in
+ * constant time. Must only be used on the UI thread.
+ */
+public class OverlayRegistry {
+  private final Map<String, Marker> mMarkers = new HashMap<>();
+  private final Map<String, Polyline> mPolylines = new HashMap<>();
+  private final Map<String, Polygon> mPolygons = new HashMap<>();
+  private final Map<String, Circle> mCircles = new HashMap<>();
+  private final Map<String, GroundOverlay> mGroundOverlays = new HashMap<>();
+
+  public void add(Marker marker) {
+    mMarkers.put(marker.getId(), marker);
+  }
+
+  public void add(Polyline polyline) {
+    mPolylines.put(polyline.getId(), polyline);
+  }
+
+  public void add(Polygon polygon) {
+    mPolygons.put(polygon.getId(), polygon);
+  }
+
+  public void add(Circle circle) {
+    mCircles.put(circle.getId(), circle);
+  }
+
+  public void add(GroundOverlay groundOverlay) {
+    mGroundOverlays.put(groundOverlay.getId(), groundOverlay);
+  }
+
+  @Nullable
+  public Marker getMarker(String id) {
+    return mMarkers.get(id);
+  }
+
+  @Nullable
+  public Polyline getPolyline(String id) {
+    return mPolylines.get(id);
+  }
+
+  @Nullable
+  public Polygon getPolygon(String id) {
+    return mPolygons.get(id);
+  }
+
+  @Nullable
+  public Circle getCircle(String id) {
+    return mCircles.get(id);
+  }
+
+  @Nullable
+  public GroundOverlay getGroundOverlay(String id) {
+    return mGroundOverlays.get(id);
+  }
+
+  public Collection<Marker> getMarkers() {
+    return mMarkers.values();
+  }
+
+  public Collection<Polyline> getPolylines() {
+    return mPolylines.values();
+  }
+
+  public Collection<Polygon> getPolygons() {
+    return mPolygons.values();
+  }
+
+  public Collection<Circle> getCircles() {
+    return mCircles.values();
+  }
+
+  public Collection<GroundOverlay> getGroundOverlays() {
+    return mGroundOverlays.values();
+  }
+
+  /** Removes the marker from the map and the registry. Returns false if it was not found. */
+  public boolean removeMarker(String id) {
+    Marker marker = mMarkers.remove(id);
+    if (marker == null) {
+      return false;
+    }
+    marker.remove();
+    return true;
+  }
+
+  public boolean removePolyline(String id) {
+    Polyline polyline = mPolylines.remove(id);
+    if (polyline == null) {
+      return false;
+    }
+    polyline.remove();
+    return true;
+  }
+
+  public boolean removePolygon(String id) {
+    Polygon polygon = mPolygons.remove(id);
+    if (polygon == null) {
+      return false;
+    }
+    polygon.remove();
+    return true;
+  }
+
+  public boolean removeCircle(String id) {
+    Circle circle = mCircles.remove(id);
+    if (circle == null) {
+      return false;
+    }
+    circle.remove();
+    return true;
+  }
+
+  public boolean removeGroundOverlay(String id) {
+    GroundOverlay groundOverlay = mGroundOverlays.remove(id);
+    if (groundOverlay == null) {
+      return false;
+    }
+    groundOverlay.remove();
+    return true;
+  }
+
+  /** Removes an overlay of any type. Returns false if no overlay has the given id. */
+  public boolean remove(String id) {
+    return removeMarker(id)
+        || removePolyline(id)
+        || removePolygon(id)
+        || removeCircle(id)
+        || removeGroundOverlay(id);
+  }
+
+  /** Returns the number of overlays of all types. */
+  public int size() {
+    return mMarkers.size()
+        + mPolylines.size()
+        + mPolygons.size()
+        + mCircles.size()
+        + mGroundOverlays.size();
+  }
+
+  /**
+   * Forgets all overlays without removing them from the map. Used after {@code GoogleMap.clear()}
+   * has already removed them.
+   */
+  public void clear() {
+    mMarkers.clear();
+    mPolylines.clear();
+    mPolygons.clear();
+    mCircles.clear();
+    mGroundOverlays.clear();
+  }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the commands issued to a map view before its map is ready, in the order they were issued.
+ * A command with a key replaces the pending command with the same key, and moves to the end of the
+ * queue, so only the last camera move or the last value of a setting is applied. Must be used on
+ * the UI thread.
+ */
+public class PendingCommandQueue {
+  private final Map<Object, Runnable> mCommands = new LinkedHashMap<>();
+  private int mNextId = 0;
+
+  /**
+   * Adds a command. Commands without a key are always kept; commands with a key replace the
+   * pending command with the same key.
+   */
+  public void add(@Nullable String key, Runnable command) {
+    // Commands without a key get a unique key of another type.
+    Object mapKey = key != null ? key : Integer.valueOf(mNextId++);
+    mCommands.remove(mapKey);
+    mCommands.put(mapKey, command);
+  }
+
+  /** Runs all pending commands in order and empties the queue. */
+  public void runAll() {
+    List<Runnable> commands = new ArrayList<>(mCommands.values());
+    mCommands.clear();
+    for (Runnable command : commands) {
+      command.run();
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.Polyline;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shows simplified versions of long polylines depending on the zoom level. Simplified point sets
+ * are computed once on a background thread, and the shown set is swapped with {@link
+ * Polyline#setPoints} when the zoom moves into another bucket. Must be used on the UI thread.
+ */
+public class PolylineLevelOfDetail {
+  /**
+   * Upper zoom bounds of the simplified buckets. Zoom levels at or above the last bound show all
+   * points.
+   */
+  private static final int[] BUCKET_MAX_ZOOMS = {5, 8, 11, 14};
+
+  /** Maximum distance between a removed point and the simplified line, in dp on screen. */
+  private static final double TOLERANCE_DP = 1;
+
+  /** Size of a dp in meters at zoom level 0 on the equator. */
+  private static final double METERS_PER_DP_AT_ZOOM_0 = 156543.03392;
+
+  private static final ExecutorService sExecutor = Executors.newSingleThreadExecutor();
+
+  private static final class Entry {
+    /** Points the polyline was added with. */
+    final List<LatLng> points;
+
+    /** Points for each bucket, followed by all points. Null until they have been computed. */
+    @Nullable List<List<LatLng>> levels;
+
+    int shownLevel;
+
+    Entry(List<LatLng> points) {
+      this.points = points;
+    }
+  }
+
+  private final GoogleMap mGoogleMap;
+  private final OverlayRegistry mOverlayRegistry;
+  private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+  private final Map<String, Entry> mEntries = new HashMap<>();
+
+  public PolylineLevelOfDetail(GoogleMap googleMap, OverlayRegistry overlayRegistry) {
+    mGoogleMap = googleMap;
+    mOverlayRegistry = overlayRegistry;
+  }
+
+  /**
+   * Starts computing the simplified versions of a polyline. The polyline keeps showing {@code
+   * points} until they are ready.
+   */
+  public void add(Polyline polyline, List<LatLng> points) {
+    final String id = polyline.getId();
+    final Entry entry = new Entry(new ArrayList<>(points));
+    mEntries.put(id, entry);
+
+    sExecutor.execute(
+        () -> {
+          List<List<LatLng>> levels = computeLevels(entry.points);
+          mMainHandler.post(
+              () -> {
+                // Skips polylines that were removed in the meantime.
+                if (mEntries.get(id) == entry) {
+                  entry.levels = levels;
+                  // The polyline was added with all points.
+                  entry.shownLevel = levels.size() - 1;
+                  update();
+                }
+              });
+        });
+  }
+
+  public void remove(String id) {
+    mEntries.remove(id);
+  }
+
+  /**
+   * Returns all points of a polyline added with {@link #add}, whichever version is shown, or null
+   * if the polyline was not added.
+   */
+  @Nullable
+  public List<LatLng> getPoints(String id) {
+    Entry entry = mEntries.get(id);
+    return entry != null ? entry.points : null;
+  }
+
+  /** Forgets all polylines after the map has been cleared. */
+  public void onMapCleared() {
+    mEntries.clear();
+  }
+
+  /** Shows the points matching the current zoom level for every polyline. */
+  public void update() {
+    int level = getLevelForZoom(mGoogleMap.getCameraPosition().zoom);
+
+    Iterator<Map.Entry<String, Entry>> iterator = mEntries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, Entry> mapEntry = iterator.next();
+      Entry entry = mapEntry.getValue();
+      if (entry.levels == null || entry.shownLevel == level) {
+        continue;
+      }
+
+      Polyline polyline = mOverlayRegistry.getPolyline(mapEntry.getKey());
+      if (polyline == null) {
+        iterator.remove();
+        continue;
+      }
+
+      List<LatLng> points = entry.levels.get(level);
+      if (points != entry.levels.get(entry.shownLevel)) {
+        polyline.setPoints(points);
+      }
+      entry.shownLevel = level;
+    }
+  }
+
+  private static int getLevelForZoom(float zoom) {
+    for (int i = 0; i < BUCKET_MAX_ZOOMS.length; i++) {
+      if (zoom < BUCKET_MAX_ZOOMS[i]) {
+        return i;
+      }
+    }
+    return BUCKET_MAX_ZOOMS.length;
+  }
+
+  private static List<List<LatLng>> computeLevels(List<LatLng> points) {
+    double minLat = 90;
+    double maxLat = -90;
+    for (LatLng point : points) {
+      minLat = Math.min(minLat, point.latitude);
+      maxLat = Math.max(maxLat, point.latitude);
+    }
+    double latitudeScale = Math.cos(Math.toRadians((minLat + maxLat) / 2));
+
+    List<List<LatLng>> levels = new ArrayList<>(BUCKET_MAX_ZOOMS.length + 1);
+    for (int maxZoom : BUCKET_MAX_ZOOMS) {
+      // The tolerance at the bucket's highest zoom is small enough for all lower zoom levels.
+      double toleranceMeters =
+          TOLERANCE_DP * METERS_PER_DP_AT_ZOOM_0 * latitudeScale / Math.pow(2, maxZoom);
+      List<LatLng> simplified = GeometryUtil.simplify(points, 0, points.size(), toleranceMeters);
+      // Shares the full point list when simplification removed nothing.
+      levels.add(simplified.size() == points.size() ? points : simplified);
+    }
+    levels.add(points);
+    return levels;
+  }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import androidx.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Location filter gating updates by accuracy, elapsed time, travelled distance and heading change,
+ * relative to the last accepted location.
+ *
+ * <p>A location is accepted when its accuracy is within bounds, at least {@code minIntervalMs} has
+ * passed, and it is either {@code minDistanceMeters} away from the last accepted location or its
+ * bearing differs by at least {@code minHeadingChangeDegrees}. Thresholds of 0 are not applied.
+ */
+public class ThresholdLocationFilter implements LocationFilter {
+  private final boolean enabled;
+  private final double minDistanceMeters;
+  private final long minIntervalMs;
+  private final double minHeadingChangeDegrees;
+  private final double maxAccuracyMeters;
+
+  private boolean hasLastAccepted = false;
+  private double lastLat;
+  private double lastLng;
+  private long lastTime;
+  private float lastBearing;
+  private boolean lastHasBearing;
+
+  private final float[] distanceResult = new float[1];
+
+  public ThresholdLocationFilter(
+      boolean enabled,
+      double minDistanceMeters,
+      long minIntervalMs,
+      double minHeadingChangeDegrees,
+      double maxAccuracyMeters) {
+    this.enabled = enabled;
+    this.minDistanceMeters = minDistanceMeters;
+    this.minIntervalMs = minIntervalMs;
+    this.minHeadingChangeDegrees = minHeadingChangeDegrees;
+    this.maxAccuracyMeters = maxAccuracyMeters;
+  }
+
+  /**
+   * Creates a filter from the JS options map, or returns {@link LocationFilter#ACCEPT_ALL} if no
+   * options are given.
+   */
+  public static LocationFilter fromMap(@Nullable Map<String, Object> map) {
+    if (map == null) {
+      return LocationFilter.ACCEPT_ALL;
+    }
+
+    return new ThresholdLocationFilter(
+        CollectionUtil.getBool("enabled", map, true),
+        CollectionUtil.getDouble("minDistanceMeters", map, 0),
+        (long) CollectionUtil.getDouble("minIntervalMs", map, 0),
+        CollectionUtil.getDouble("minHeadingChangeDegrees", map, 0),
+        CollectionUtil.getDouble("maxAccuracyMeters", map, 0));
+  }
+
+  @Override
+  public synchronized boolean accept(Location location) {
+    if (!enabled) {
+      return false;
+    }
+
+    if (maxAccuracyMeters > 0
+        && location.hasAccuracy()
+        && location.getAccuracy() > maxAccuracyMeters) {
+      return false;
+    }
+
+    if (hasLastAccepted) {
+      if (location.getTime() - lastTime < minIntervalMs) {
+        return false;
+      }
+
+      // Distance and heading gates are alternatives: passing either one is enough.
+      if (minDistanceMeters > 0 || minHeadingChangeDegrees > 0) {
+        boolean movedEnough = false;
+        if (minDistanceMeters > 0) {
+          Location.distanceBetween(
+              lastLat, lastLng, location.getLatitude(), location.getLongitude(), distanceResult);
+          movedEnough = distanceResult[0] >= minDistanceMeters;
+        }
+
+        boolean turnedEnough = false;
+        if (minHeadingChangeDegrees > 0 && lastHasBearing && location.hasBearing()) {
+          turnedEnough =
+              headingDelta(lastBearing, location.getBearing()) >= minHeadingChangeDegrees;
+        }
+
+        if (!movedEnough && !turnedEnough) {
+          return false;
+        }
+      }
+    }
+
+    hasLastAccepted = true;
+    lastLat = location.getLatitude();
+    lastLng = location.getLongitude();
+    lastTime = location.getTime();
+    lastHasBearing = location.hasBearing();
+    lastBearing = location.getBearing();
+    return true;
+  }
+
+  @Override
+  public synchronized void reset() {
+    hasLastAccepted = false;
+  }
+
+  private static double headingDelta(float from, float to) {
+    double delta = Math.abs(to - from) % 360;
+    return delta > 180 ? 360 - delta : delta;
+  }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Encodes turn-by-turn updates relative to the previously emitted one.
+ *
+ * <p>A full event (see {@link ObjectTranslationUtil#getMapFromNavInfo}) is produced for the first
+ * update, when the route changes, and when the set of remaining steps changes (for example on step
+ * advance). Other updates only carry the fields that changed, with {@code isDelta} set to true and
+ * the current step reduced to its {@code stepNumber} plus changed fields. Fields that no longer
+ * have a value are listed in {@code removedFields}, on the update and on the current step.
+ */
+public class TurnByTurnDeltaEncoder {
+  public static final String REMOVED_FIELDS_KEY = "removedFields";
+
+  private static final int[] EMPTY_STEP_NUMBERS = new int[0];
+
+  @Nullable private NavInfo mLastNavInfo;
+  private int[] mLastStepNumbers = EMPTY_STEP_NUMBERS;
+
+  public synchronized WritableMap encode(NavInfo navInfo) {
+    int[] stepNumbers = getStepNumbers(navInfo.getRemainingSteps());
+    NavInfo last = mLastNavInfo;
+    boolean isFullUpdate =
+        last == null
+            || navInfo.getRouteChanged()
+            || !Arrays.equals(stepNumbers, mLastStepNumbers)
+            || !isSameStep(last.getCurrentStep(), navInfo.getCurrentStep());
+
+    mLastNavInfo = navInfo;
+    mLastStepNumbers = stepNumbers;
+
+    if (isFullUpdate) {
+      WritableMap map = ObjectTranslationUtil.getMapFromNavInfo(navInfo);
+      map.putBoolean("isDelta", false);
+      return map;
+    }
+
+    WritableMap map = Arguments.createMap();
+    WritableArray removedFields = Arguments.createArray();
+    map.putBoolean("isDelta", true);
+    map.putBoolean("routeChanged", false);
+    putIfChanged(map, removedFields, "navState", last.getNavState(), navInfo.getNavState());
+    putIfChanged(
+        map,
+        removedFields,
+        "distanceToCurrentStepMeters",
+        last.getDistanceToCurrentStepMeters(),
+        navInfo.getDistanceToCurrentStepMeters());
+    putIfChanged(
+        map,
+        removedFields,
+        "distanceToFinalDestinationMeters",
+        last.getDistanceToFinalDestinationMeters(),
+        navInfo.getDistanceToFinalDestinationMeters());
+    putIfChanged(
+        map,
+        removedFields,
+        "distanceToNextDestinationMeters",
+        last.getDistanceToNextDestinationMeters(),
+        navInfo.getDistanceToNextDestinationMeters());
+    putIfChanged(
+        map,
+        removedFields,
+        "timeToCurrentStepSeconds",
+        last.getTimeToCurrentStepSeconds(),
+        navInfo.getTimeToCurrentStepSeconds());
+    putIfChanged(
+        map,
+        removedFields,
+        "timeToFinalDestinationSeconds",
+        last.getTimeToFinalDestinationSeconds(),
+        navInfo.getTimeToFinalDestinationSeconds());
+    putIfChanged(
+        map,
+        removedFields,
+        "timeToNextDestinationSeconds",
+        last.getTimeToNextDestinationSeconds(),
+        navInfo.getTimeToNextDestinationSeconds());
+    if (removedFields.size() > 0) {
+      map.putArray(REMOVED_FIELDS_KEY, removedFields);
+    }
+
+    // A step that appears or disappears is a full update, so both are set here.
+    StepInfo step = navInfo.getCurrentStep();
+    StepInfo lastStep = last.getCurrentStep();
+    if (step != null && lastStep != null) {
+      WritableMap stepDelta = getStepDelta(lastStep, step);
+      if (stepDelta != null) {
+        map.putMap("currentStep", stepDelta);
+      }
+    }
+
+    return map;
+  }
+
+  /** Forgets the last emitted update so the next one is sent in full. */
+  public synchronized void reset() {
+    mLastNavInfo = null;
+    mLastStepNumbers = EMPTY_STEP_NUMBERS;
+  }
+
+  private static int[] getStepNumbers(@Nullable List<StepInfo> steps) {
+    if (steps == null || steps.isEmpty()) {
+      return EMPTY_STEP_NUMBERS;
+    }
+    int[] stepNumbers = new int[steps.size()];
+    for (int i = 0; i < stepNumbers.length; i++) {
+      stepNumbers[i] = steps.get(i).getStepNumber();
+    }
+    return stepNumbers;
+  }
+
+  private static boolean isSameStep(@Nullable StepInfo previous, @Nullable StepInfo current) {
+    if (previous == null || current == null) {
+      return previous == current;
+    }
+    return Objects.equals(previous.getStepNumber(), current.getStepNumber());
+  }
+
+  /** Returns the changed fields of the current step, or null if nothing changed. */
+  @Nullable
+  private static WritableMap getStepDelta(StepInfo previous, StepInfo current) {
+    WritableMap map = Arguments.createMap();
+    WritableArray removedFields = Arguments.createArray();
+    boolean changed =
+        putIfChanged(
+            map,
+            removedFields,
+            "distanceFromPrevStepMeters",
+            previous.getDistanceFromPrevStepMeters(),
+            current.getDistanceFromPrevStepMeters());
+    changed |=
+        putIfChanged(
+            map,
+            removedFields,
+            "timeFromPrevStepSeconds",
+            previous.getTimeFromPrevStepSeconds(),
+            current.getTimeFromPrevStepSeconds());
+    changed |=
+        putIfChanged(map, removedFields, "maneuver", previous.getManeuver(), current.getManeuver());
+    changed |=
+        putIfChanged(
+            map,
+            removedFields,
+            "instruction",
+            previous.getFullInstructionText(),
+            current.getFullInstructionText());
+    changed |=
+        putIfChanged(
+            map,
+            removedFields,
+            "fullRoadName",
+            previous.getFullRoadName(),
+            current.getFullRoadName());
+
+    if (!changed) {
+      return null;
+    }
+
+    map.putInt("stepNumber", current.getStepNumber());
+    if (removedFields.size() > 0) {
+      map.putArray(REMOVED_FIELDS_KEY, removedFields);
+    }
+    return map;
+  }
+
+  /**
+   * Puts {@code current} if it differs from {@code previous}, or lists the key as removed if it no
+   * longer has a value. Returns whether the field changed.
+   */
+  private static boolean putIfChanged(
+      WritableMap map,
+      WritableArray removedFields,
+      String key,
+      @Nullable Object previous,
+      @Nullable Object current) {
+    if (Objects.equals(previous, current)) {
+      return false;
+    }
+    if (current == null) {
+      removedFields.pushString(key);
+    } else if (current instanceof Integer) {
+      map.putInt(key, (Integer) current);
+    } else {
+      map.putString(key, current.toString());
+    }
+    return true;
+  }
+}
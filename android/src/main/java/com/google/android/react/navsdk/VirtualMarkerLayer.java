@@ -0,0 +1,389 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shows a large number of markers by keeping their definitions in a grid-bucketed spatial index
+ * and creating real {@link Marker}s only for those inside the visible region plus a margin.
+ * Markers that leave the region are hidden and reused for markers that enter it. If more than
+ * {@link #DEFAULT_MAX_VISIBLE_MARKERS} markers are in the region, the ones closest to the center
+ * of the viewport are shown.
+ *
+ * <p>The real markers, shown or pooled, are owned by the layer and kept out of the {@link
+ * OverlayRegistry}.
+ *
+ * <p>Ids of virtual markers stay the same whether or not they are currently shown. Must be used on
+ * the UI thread, except for {@link #parseDefinition}.
+ */
+public class VirtualMarkerLayer {
+  public static final int DEFAULT_MAX_VISIBLE_MARKERS = 1000;
+
+  /** Size of the grid cells of the spatial index, in degrees (about 1km at the equator). */
+  private static final double CELL_SIZE_DEGREES = 0.01;
+
+  /** Extra area around the visible region, as a fraction of its size on each side. */
+  private static final double MARGIN_RATIO = 0.25;
+
+  /** Maximum number of hidden markers kept for reuse. */
+  private static final int MAX_POOL_SIZE = 200;
+
+  /** Compact definition of a marker; the only memory used by markers that are not shown. */
+  public static final class Definition {
+    String id;
+    final double lat;
+    final double lng;
+    @Nullable final String imagePath;
+    @Nullable final String title;
+    @Nullable final String snippet;
+    final float alpha;
+    final float rotation;
+    final boolean flat;
+
+    Definition(
+        double lat,
+        double lng,
+        @Nullable String imagePath,
+        @Nullable String title,
+        @Nullable String snippet,
+        float alpha,
+        float rotation,
+        boolean flat) {
+      this.lat = lat;
+      this.lng = lng;
+      this.imagePath = imagePath;
+      this.title = title;
+      this.snippet = snippet;
+      this.alpha = alpha;
+      this.rotation = rotation;
+      this.flat = flat;
+    }
+  }
+
+  private final GoogleMap mGoogleMap;
+
+  private final Map<String, Definition> mDefinitions = new HashMap<>();
+  private final Map<Long, List<Definition>> mCells = new HashMap<>();
+  private int mNextId = 0;
+
+  private final Map<String, Marker> mShownMarkers = new HashMap<>();
+  private final Map<String, String> mIdsByMarkerId = new HashMap<>();
+  private final Deque<Marker> mPool = new ArrayDeque<>();
+
+  public VirtualMarkerLayer(GoogleMap googleMap) {
+    mGoogleMap = googleMap;
+  }
+
+  /**
+   * Parses a JS marker options map. Does not need to run on the UI thread.
+   *
+   * @throws IllegalArgumentException if the position is missing or malformed.
+   */
+  public static Definition parseDefinition(Map<String, Object> optionsMap) {
+    LatLng position = ObjectTranslationUtil.getLatLngFromOptions(optionsMap, "position");
+    if (position == null) {
+      throw new IllegalArgumentException("Marker options must have a position");
+    }
+    String imagePath = CollectionUtil.getString("imgPath", optionsMap);
+    return new Definition(
+        position.latitude,
+        position.longitude,
+        imagePath != null && !imagePath.isEmpty() ? imagePath.intern() : null,
+        CollectionUtil.getString("title", optionsMap),
+        CollectionUtil.getString("snippet", optionsMap),
+        (float) CollectionUtil.getDouble("alpha", optionsMap, 1),
+        (float) CollectionUtil.getDouble("rotation", optionsMap, 0),
+        CollectionUtil.getBool("flat", optionsMap, false));
+  }
+
+  /** Adds the markers and returns their ids, in the same order. */
+  public List<String> add(List<Definition> definitions) {
+    List<String> ids = new ArrayList<>(definitions.size());
+    for (Definition definition : definitions) {
+      definition.id = "virtualMarker" + mNextId++;
+      mDefinitions.put(definition.id, definition);
+      long cellKey = getCellKey(definition.lat, definition.lng);
+      List<Definition> cell = mCells.get(cellKey);
+      if (cell == null) {
+        cell = new ArrayList<>();
+        mCells.put(cellKey, cell);
+      }
+      cell.add(definition);
+      ids.add(definition.id);
+    }
+    refresh();
+    return ids;
+  }
+
+  public int remove(List<String> ids) {
+    int removed = 0;
+    for (String id : ids) {
+      Definition definition = mDefinitions.remove(id);
+      if (definition == null) {
+        continue;
+      }
+      long cellKey = getCellKey(definition.lat, definition.lng);
+      List<Definition> cell = mCells.get(cellKey);
+      if (cell != null) {
+        cell.remove(definition);
+        if (cell.isEmpty()) {
+          mCells.remove(cellKey);
+        }
+      }
+      Marker marker = mShownMarkers.remove(id);
+      if (marker != null) {
+        recycle(marker);
+      }
+      removed++;
+    }
+    return removed;
+  }
+
+  public int size() {
+    return mDefinitions.size();
+  }
+
+  /** Removes all virtual markers and the markers showing them. */
+  public void clear() {
+    for (Marker marker : mShownMarkers.values()) {
+      marker.remove();
+    }
+    for (Marker marker : mPool) {
+      marker.remove();
+    }
+    onMapCleared();
+  }
+
+  /** Forgets all virtual markers without removing them, after the map has been cleared. */
+  public void onMapCleared() {
+    mDefinitions.clear();
+    mCells.clear();
+    mShownMarkers.clear();
+    mIdsByMarkerId.clear();
+    mPool.clear();
+  }
+
+  /** Returns the virtual id of a marker shown by this layer, or null if it is not one. */
+  @Nullable
+  public String getIdForMarker(Marker marker) {
+    return mIdsByMarkerId.get(marker.getId());
+  }
+
+  /** Shows the markers inside the visible region plus margin and hides all others. */
+  public void refresh() {
+    LatLngBounds bounds = mGoogleMap.getProjection().getVisibleRegion().latLngBounds;
+    double south = bounds.southwest.latitude;
+    double north = bounds.northeast.latitude;
+    double west = bounds.southwest.longitude;
+    double east = bounds.northeast.longitude;
+    if (east < west) {
+      // The region crosses the antimeridian.
+      east += 360;
+    }
+    double centerLat = (south + north) / 2;
+    double centerLng = (west + east) / 2;
+    double latMargin = (north - south) * MARGIN_RATIO;
+    double lngMargin = (east - west) * MARGIN_RATIO;
+    south = Math.max(-90, south - latMargin);
+    north = Math.min(90, north + latMargin);
+    west -= lngMargin;
+    east += lngMargin;
+
+    Set<String> visibleIds = queryIds(south, north, west, east, centerLat, centerLng);
+
+    for (Map.Entry<String, Marker> entry : new ArrayList<>(mShownMarkers.entrySet())) {
+      if (!visibleIds.contains(entry.getKey())) {
+        mShownMarkers.remove(entry.getKey());
+        recycle(entry.getValue());
+      }
+    }
+    for (String id : visibleIds) {
+      if (!mShownMarkers.containsKey(id)) {
+        show(mDefinitions.get(id));
+      }
+    }
+  }
+
+  private Set<String> queryIds(
+      double south, double north, double west, double east, double centerLat, double centerLng) {
+    List<Definition> candidates = new ArrayList<>();
+    long minCellX = (long) Math.floor(south / CELL_SIZE_DEGREES);
+    long maxCellX = (long) Math.floor(north / CELL_SIZE_DEGREES);
+    long minCellY = (long) Math.floor(west / CELL_SIZE_DEGREES);
+    long maxCellY = (long) Math.floor(east / CELL_SIZE_DEGREES);
+    long cellCount = (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+
+    if (cellCount > mCells.size()) {
+      // Zoomed out: scanning the occupied cells is cheaper than probing every cell in range.
+      for (List<Definition> cell : mCells.values()) {
+        addContained(cell, south, north, west, east, candidates);
+      }
+    } else {
+      for (long x = minCellX; x <= maxCellX; x++) {
+        for (long y = minCellY; y <= maxCellY; y++) {
+          List<Definition> cell = mCells.get(getCellKey(x, normalizeCellY(y)));
+          if (cell != null) {
+            addContained(cell, south, north, west, east, candidates);
+          }
+        }
+      }
+    }
+    return selectNearest(candidates, centerLat, centerLng);
+  }
+
+  private static void addContained(
+      List<Definition> cell,
+      double south,
+      double north,
+      double west,
+      double east,
+      List<Definition> candidates) {
+    for (Definition definition : cell) {
+      if (contains(definition, south, north, west, east)) {
+        candidates.add(definition);
+      }
+    }
+  }
+
+  /**
+   * Returns the ids of the candidates, keeping only the {@link #DEFAULT_MAX_VISIBLE_MARKERS}
+   * closest to the center of the viewport if there are more.
+   */
+  private static Set<String> selectNearest(
+      List<Definition> candidates, double centerLat, double centerLng) {
+    int count = Math.min(candidates.size(), DEFAULT_MAX_VISIBLE_MARKERS);
+    Set<String> ids = new HashSet<>(count * 2);
+    if (candidates.size() <= DEFAULT_MAX_VISIBLE_MARKERS) {
+      for (Definition definition : candidates) {
+        ids.add(definition.id);
+      }
+      return ids;
+    }
+
+    // Equirectangular distance is enough to rank markers within a visible region.
+    double lngScale = Math.cos(Math.toRadians(centerLat));
+    double[] distances = new double[candidates.size()];
+    for (int i = 0; i < distances.length; i++) {
+      Definition definition = candidates.get(i);
+      double dLat = definition.lat - centerLat;
+      double dLng = (definition.lng - centerLng) % 360;
+      if (dLng > 180) {
+        dLng -= 360;
+      } else if (dLng < -180) {
+        dLng += 360;
+      }
+      dLng *= lngScale;
+      distances[i] = dLat * dLat + dLng * dLng;
+    }
+    double[] sorted = distances.clone();
+    Arrays.sort(sorted);
+    double maxDistance = sorted[count - 1];
+
+    // Markers strictly closer than the cut-off first, then ties until the limit is reached.
+    for (int i = 0; i < distances.length; i++) {
+      if (distances[i] < maxDistance) {
+        ids.add(candidates.get(i).id);
+      }
+    }
+    for (int i = 0; i < distances.length && ids.size() < count; i++) {
+      if (distances[i] == maxDistance) {
+        ids.add(candidates.get(i).id);
+      }
+    }
+    return ids;
+  }
+
+  private static boolean contains(
+      Definition definition, double south, double north, double west, double east) {
+    if (definition.lat < south || definition.lat > north) {
+      return false;
+    }
+    double lng = definition.lng;
+    if (lng < west) {
+      lng += 360;
+    } else if (lng > east) {
+      lng -= 360;
+    }
+    return lng >= west && lng <= east;
+  }
+
+  private void show(Definition definition) {
+    Marker marker = mPool.poll();
+    if (marker == null) {
+      marker = mGoogleMap.addMarker(new MarkerOptions().position(new LatLng(0, 0)));
+      if (marker == null) {
+        return;
+      }
+    }
+
+    marker.setPosition(new LatLng(definition.lat, definition.lng));
+    marker.setIcon(
+        definition.imagePath != null
+            ? BitmapDescriptorCache.fromAsset(definition.imagePath)
+            : BitmapDescriptorFactory.defaultMarker());
+    marker.setTitle(definition.title);
+    marker.setSnippet(definition.snippet);
+    marker.setAlpha(definition.alpha);
+    marker.setRotation(definition.rotation);
+    marker.setFlat(definition.flat);
+    marker.setVisible(true);
+
+    mShownMarkers.put(definition.id, marker);
+    mIdsByMarkerId.put(marker.getId(), definition.id);
+  }
+
+  private void recycle(Marker marker) {
+    mIdsByMarkerId.remove(marker.getId());
+    if (mPool.size() < MAX_POOL_SIZE) {
+      marker.hideInfoWindow();
+      marker.setVisible(false);
+      mPool.push(marker);
+    } else {
+      marker.remove();
+    }
+  }
+
+  private static long getCellKey(double lat, double lng) {
+    return getCellKey(
+        (long) Math.floor(lat / CELL_SIZE_DEGREES),
+        normalizeCellY((long) Math.floor(lng / CELL_SIZE_DEGREES)));
+  }
+
+  private static long getCellKey(long cellX, long cellY) {
+    return (cellX << 32) | (cellY & 0xffffffffL);
+  }
+
+  /** Wraps longitude cell indexes so regions crossing the antimeridian find the right cells. */
+  private static long normalizeCellY(long cellY) {
+    long cellsAroundWorld = Math.round(360 / CELL_SIZE_DEGREES);
+    long normalized = Math.floorMod(cellY + cellsAroundWorld / 2, cellsAroundWorld);
+    return normalized - cellsAroundWorld / 2;
+  }
+}
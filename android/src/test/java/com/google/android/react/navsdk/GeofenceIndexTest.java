@@ -0,0 +1,147 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class GeofenceIndexTest {
+  private final GeofenceIndex mIndex = new GeofenceIndex();
+
+  @Test
+  public void query_findsPointsInsidePolygon() throws Exception {
+    mIndex.addPolygon("square", createSquare(0, 0, 1), Collections.emptyList());
+
+    List<List<String>> results = query(new LatLng(0.5, 0.5), new LatLng(1.5, 0.5));
+
+    assertEquals(Arrays.asList("square"), results.get(0));
+    assertTrue(results.get(1).isEmpty());
+  }
+
+  @Test
+  public void query_excludesPointsInsideHoles() throws Exception {
+    mIndex.addPolygon(
+        "square", createSquare(0, 0, 3), Collections.singletonList(createSquare(1, 1, 1)));
+
+    List<List<String>> results = query(new LatLng(1.5, 1.5), new LatLng(0.5, 0.5));
+
+    assertTrue(results.get(0).isEmpty());
+    assertEquals(Arrays.asList("square"), results.get(1));
+  }
+
+  @Test
+  public void query_findsPointsInsideCircle() throws Exception {
+    mIndex.addCircle("circle", new LatLng(10, 20), 1000);
+
+    // About 890 m and 1110 m north of the center.
+    List<List<String>> results = query(new LatLng(10.008, 20), new LatLng(10.01, 20));
+
+    assertEquals(Arrays.asList("circle"), results.get(0));
+    assertTrue(results.get(1).isEmpty());
+  }
+
+  @Test
+  public void query_handlesShapesCrossingAntimeridian() throws Exception {
+    mIndex.addPolygon(
+        "polygon",
+        Arrays.asList(
+            new LatLng(-1, 179), new LatLng(-1, -179), new LatLng(1, -179), new LatLng(1, 179)),
+        Collections.emptyList());
+    mIndex.addCircle("circle", new LatLng(0, 179.999), 1000);
+
+    List<List<String>> results =
+        query(new LatLng(0, 179.5), new LatLng(0, -179.5), new LatLng(0, -179.995));
+
+    assertEquals(Arrays.asList("polygon"), results.get(0));
+    assertEquals(Arrays.asList("polygon"), results.get(1));
+    assertEquals(new HashSet<>(Arrays.asList("polygon", "circle")), new HashSet<>(results.get(2)));
+  }
+
+  @Test
+  public void query_reflectsRemovedAndReplacedShapes() throws Exception {
+    mIndex.addPolygon("a", createSquare(0, 0, 1), Collections.emptyList());
+    mIndex.addPolygon("b", createSquare(0, 0, 1), Collections.emptyList());
+    assertEquals(2, query(new LatLng(0.5, 0.5)).get(0).size());
+
+    mIndex.remove("a");
+    mIndex.addPolygon("b", createSquare(5, 5, 1), Collections.emptyList());
+
+    List<List<String>> results = query(new LatLng(0.5, 0.5), new LatLng(5.5, 5.5));
+    assertTrue(results.get(0).isEmpty());
+    assertEquals(Arrays.asList("b"), results.get(1));
+
+    mIndex.clear();
+    assertTrue(query(new LatLng(5.5, 5.5)).get(0).isEmpty());
+  }
+
+  @Test
+  public void query_findsShapesAmongManyNodes() throws Exception {
+    // Enough shapes for several levels of the tree.
+    for (int i = 0; i < 40; i++) {
+      for (int j = 0; j < 40; j++) {
+        mIndex.addPolygon(i + "," + j, createSquare(i, j, 1), Collections.emptyList());
+      }
+    }
+
+    List<List<String>> results =
+        query(new LatLng(0.5, 0.5), new LatLng(12.5, 33.5), new LatLng(39.5, 39.5));
+
+    assertEquals(Arrays.asList("0,0"), results.get(0));
+    assertEquals(Arrays.asList("12,33"), results.get(1));
+    assertEquals(Arrays.asList("39,39"), results.get(2));
+  }
+
+  @Test
+  public void addPolygon_ignoresPolygonsWithFewerThanThreePoints() throws Exception {
+    mIndex.addPolygon(
+        "line", Arrays.asList(new LatLng(0, 0), new LatLng(1, 1)), Collections.emptyList());
+
+    assertTrue(query(new LatLng(0.5, 0.5)).get(0).isEmpty());
+  }
+
+  /** Returns a square with its south-west corner at the given point. */
+  private static List<LatLng> createSquare(double lat, double lng, double size) {
+    List<LatLng> points = new ArrayList<>();
+    points.add(new LatLng(lat, lng));
+    points.add(new LatLng(lat, lng + size));
+    points.add(new LatLng(lat + size, lng + size));
+    points.add(new LatLng(lat + size, lng));
+    return points;
+  }
+
+  /** Runs a query and waits for its results. */
+  private List<List<String>> query(LatLng... points) throws Exception {
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicReference<List<List<String>>> results = new AtomicReference<>();
+    mIndex.query(
+        Arrays.asList(points),
+        value -> {
+          results.set(value);
+          done.countDown();
+        });
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    return results.get();
+  }
+}
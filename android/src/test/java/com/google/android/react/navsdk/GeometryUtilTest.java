@@ -0,0 +1,128 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class GeometryUtilTest {
+  /** Example from the encoded polyline algorithm documentation. */
+  private static final String ENCODED = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+  private static final List<LatLng> POINTS =
+      Arrays.asList(
+          new LatLng(38.5, -120.2), new LatLng(40.7, -120.95), new LatLng(43.252, -126.453));
+
+  @Test
+  public void encodePolyline_matchesReferenceExample() {
+    assertEquals(ENCODED, GeometryUtil.encodePolyline(POINTS));
+  }
+
+  @Test
+  public void encodePolyline_encodesRangeRelativeToItsFirstPoint() {
+    assertEquals(
+        GeometryUtil.encodePolyline(POINTS.subList(1, 3)),
+        GeometryUtil.encodePolyline(POINTS, 1, 3));
+  }
+
+  @Test
+  public void decodePolyline_matchesReferenceExample() {
+    assertPointsEqual(POINTS, GeometryUtil.decodePolyline(ENCODED));
+  }
+
+  @Test
+  public void decodePolyline_roundTripsEncodedPoints() {
+    List<LatLng> points =
+        Arrays.asList(new LatLng(-33.86785, 151.20732), new LatLng(0, 0), new LatLng(89.9, -179.9));
+    assertPointsEqual(points, GeometryUtil.decodePolyline(GeometryUtil.encodePolyline(points)));
+  }
+
+  @Test
+  public void decodePolyline_returnsNoPointsForEmptyString() {
+    assertTrue(GeometryUtil.decodePolyline("").isEmpty());
+  }
+
+  @Test
+  public void decodePolyline_rejectsTruncatedInput() {
+    // Latitude without a longitude.
+    assertThrows(IllegalArgumentException.class, () -> GeometryUtil.decodePolyline("_p~iF"));
+    // Value whose continuation bit is set on the last character.
+    assertThrows(IllegalArgumentException.class, () -> GeometryUtil.decodePolyline("_p~iF~ps|"));
+  }
+
+  @Test
+  public void getLatLngsFromPackedList_readsPairsOfNumbers() {
+    List<LatLng> points = GeometryUtil.getLatLngsFromPackedList(Arrays.asList(1.5, 2, -3, 4.25));
+    assertPointsEqual(Arrays.asList(new LatLng(1.5, 2), new LatLng(-3, 4.25)), points);
+  }
+
+  @Test
+  public void getLatLngsFromPackedList_rejectsOddNumberOfValues() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> GeometryUtil.getLatLngsFromPackedList(Arrays.asList(1.0, 2.0, 3.0)));
+  }
+
+  @Test
+  public void simplify_keepsPointsWithoutTolerance() {
+    List<LatLng> points = createZigzag(10, 0.00001);
+    assertEquals(points, GeometryUtil.simplify(points, 0, points.size(), 0));
+  }
+
+  @Test
+  public void simplify_removesPointsWithinTolerance() {
+    // Deviations of about 1 m from a straight line.
+    List<LatLng> points = createZigzag(10, 0.00001);
+    List<LatLng> simplified = GeometryUtil.simplify(points, 0, points.size(), 5);
+    assertEquals(Arrays.asList(points.get(0), points.get(points.size() - 1)), simplified);
+  }
+
+  @Test
+  public void simplify_keepsPointsBeyondTolerance() {
+    List<LatLng> points =
+        Arrays.asList(new LatLng(0, 0), new LatLng(0.01, 0.005), new LatLng(0, 0.01));
+    assertEquals(points, GeometryUtil.simplify(points, 0, points.size(), 100));
+  }
+
+  @Test
+  public void simplify_onlyConsidersRange() {
+    List<LatLng> points = createZigzag(10, 0.00001);
+    List<LatLng> simplified = GeometryUtil.simplify(points, 2, 6, 5);
+    assertEquals(Arrays.asList(points.get(2), points.get(5)), simplified);
+  }
+
+  /** Returns points heading east, alternating {@code offset} degrees north and south. */
+  private static List<LatLng> createZigzag(int count, double offset) {
+    List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      points.add(new LatLng(i % 2 == 0 ? offset : -offset, i * 0.001));
+    }
+    return points;
+  }
+
+  private static void assertPointsEqual(List<LatLng> expected, List<LatLng> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).latitude, actual.get(i).latitude, 1e-9);
+      assertEquals(expected.get(i).longitude, actual.get(i).longitude, 1e-9);
+    }
+  }
+}
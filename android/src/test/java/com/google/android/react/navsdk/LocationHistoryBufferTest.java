@@ -0,0 +1,157 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class LocationHistoryBufferTest {
+  private MockedStatic<Arguments> mArguments;
+
+  @Before
+  public void setUp() {
+    // The native maps and arrays created by Arguments need the React Native libraries.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mArguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+  }
+
+  @After
+  public void tearDown() {
+    mArguments.close();
+  }
+
+  @Test
+  public void query_returnsAllLocationsOldestFirst() {
+    LocationHistoryBuffer buffer = createBuffer(10, 0, 1000, 2000);
+
+    ReadableMap result = buffer.query(0, 0, 1);
+
+    assertEquals(Arrays.asList(0.0, 1000.0, 2000.0), getDoubles(result, "time"));
+    assertEquals(Arrays.asList(0.0, 1.0, 2.0), getDoubles(result, Constants.LAT_FIELD_KEY));
+    assertEquals(Arrays.asList(0.0, 2.0, 4.0), getDoubles(result, Constants.LNG_FIELD_KEY));
+  }
+
+  @Test
+  public void query_returnsLocationsSinceTimestamp() {
+    LocationHistoryBuffer buffer = createBuffer(10, 0, 1000, 1000, 2000, 3000);
+
+    assertEquals(
+        Arrays.asList(1000.0, 1000.0, 2000.0, 3000.0),
+        getDoubles(buffer.query(1000, 0, 1), "time"));
+    assertEquals(Arrays.asList(2000.0, 3000.0), getDoubles(buffer.query(1500, 0, 1), "time"));
+    assertTrue(getDoubles(buffer.query(3001, 0, 1), "time").isEmpty());
+  }
+
+  @Test
+  public void query_keepsMostRecentLocationsUpToMaxPoints() {
+    LocationHistoryBuffer buffer = createBuffer(10, 0, 1000, 2000, 3000, 4000);
+
+    assertEquals(Arrays.asList(3000.0, 4000.0), getDoubles(buffer.query(0, 2, 1), "time"));
+  }
+
+  @Test
+  public void query_decimatesFromOldestMatchingLocation() {
+    LocationHistoryBuffer buffer = createBuffer(10, 0, 1000, 2000, 3000, 4000);
+
+    assertEquals(Arrays.asList(0.0, 2000.0, 4000.0), getDoubles(buffer.query(0, 0, 2), "time"));
+    assertEquals(Arrays.asList(1000.0, 4000.0), getDoubles(buffer.query(1000, 0, 3), "time"));
+    // The most recent decimated locations are kept.
+    assertEquals(Arrays.asList(2000.0, 4000.0), getDoubles(buffer.query(0, 2, 2), "time"));
+  }
+
+  @Test
+  public void query_readsAcrossWrappedBuffer() {
+    LocationHistoryBuffer buffer = createBuffer(3, 0, 1000, 2000, 3000, 4000);
+
+    assertEquals(Arrays.asList(2000.0, 3000.0, 4000.0), getDoubles(buffer.query(0, 0, 1), "time"));
+    assertEquals(Arrays.asList(3000.0, 4000.0), getDoubles(buffer.query(2500, 0, 1), "time"));
+  }
+
+  @Test
+  public void query_returnsNullForMissingBearingAndAccuracy() {
+    LocationHistoryBuffer buffer = new LocationHistoryBuffer(10);
+    Location location = createLocation(0, 0);
+    when(location.hasBearing()).thenReturn(true);
+    when(location.getBearing()).thenReturn(90f);
+    buffer.add(location);
+    buffer.add(createLocation(1, 1000));
+
+    ReadableMap result = buffer.query(0, 0, 1);
+
+    ReadableArray bearing = result.getArray("bearing");
+    assertEquals(90.0, bearing.getDouble(0), 0);
+    assertTrue(bearing.isNull(1));
+    ReadableArray accuracy = result.getArray("accuracy");
+    assertTrue(accuracy.isNull(0));
+    assertTrue(accuracy.isNull(1));
+  }
+
+  @Test
+  public void clear_andSetCapacity_discardHistory() {
+    LocationHistoryBuffer buffer = createBuffer(10, 0, 1000);
+    buffer.clear();
+    assertTrue(getDoubles(buffer.query(0, 0, 1), "time").isEmpty());
+
+    buffer.add(createLocation(0, 2000));
+    buffer.setCapacity(10);
+    assertEquals(Arrays.asList(2000.0), getDoubles(buffer.query(0, 0, 1), "time"));
+
+    buffer.setCapacity(5);
+    assertTrue(getDoubles(buffer.query(0, 0, 1), "time").isEmpty());
+  }
+
+  /** Creates a buffer holding locations at the given times, the n-th one at (n, 2n). */
+  private static LocationHistoryBuffer createBuffer(int capacity, long... times) {
+    LocationHistoryBuffer buffer = new LocationHistoryBuffer(capacity);
+    for (int i = 0; i < times.length; i++) {
+      buffer.add(createLocation(i, times[i]));
+    }
+    return buffer;
+  }
+
+  private static Location createLocation(double index, long time) {
+    Location location = mock(Location.class);
+    when(location.getLatitude()).thenReturn(index);
+    when(location.getLongitude()).thenReturn(index * 2);
+    when(location.getTime()).thenReturn(time);
+    return location;
+  }
+
+  private static List<Double> getDoubles(ReadableMap map, String key) {
+    ReadableArray array = map.getArray(key);
+    List<Double> values = new ArrayList<>();
+    for (int i = 0; i < array.size(); i++) {
+      values.add(array.getDouble(i));
+    }
+    return values;
+  }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.MapStyleOptions;
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MapStyleLoaderTest {
+  private static final String STYLE_V1 = "[{\"featureType\":\"water\"}]";
+  private static final String STYLE_V2 = "[{\"featureType\":\"road\"}]";
+
+  @Rule public TemporaryFolder mTemporaryFolder = new TemporaryFolder();
+
+  private HttpServer mServer;
+  private String mUrl;
+  private File mCacheDirectory;
+
+  private final AtomicInteger mRequestCount = new AtomicInteger();
+  private volatile String mStyle = STYLE_V1;
+  private volatile String mEtag = "\"v1\"";
+  private volatile String mLastIfNoneMatch;
+
+  @Before
+  public void setUp() throws IOException {
+    mCacheDirectory = mTemporaryFolder.newFolder("map_styles");
+    mServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    mServer.createContext(
+        "/style.json",
+        exchange -> {
+          mRequestCount.incrementAndGet();
+          mLastIfNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+          String etag = mEtag;
+          if (etag != null && etag.equals(mLastIfNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+          }
+          byte[] body = mStyle.getBytes(StandardCharsets.UTF_8);
+          if (etag != null) {
+            exchange.getResponseHeaders().set("ETag", etag);
+          }
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+          }
+        });
+    mServer.start();
+    mUrl = "http://127.0.0.1:" + mServer.getAddress().getPort() + "/style.json";
+  }
+
+  @After
+  public void tearDown() {
+    mServer.stop(0);
+  }
+
+  @Test
+  public void load_downloadsStyleAndServesItFromMemory() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    MapStyleLoader loader = new MapStyleLoader(executor, Runnable::run, mCacheDirectory);
+    List<MapStyleOptions> delivered = Collections.synchronizedList(new ArrayList<>());
+
+    loader.load(mUrl, delivered::add);
+    awaitIdle(executor);
+    assertEquals(1, delivered.size());
+
+    loader.load(mUrl, delivered::add);
+    assertEquals(2, delivered.size());
+    assertSame(delivered.get(0), delivered.get(1));
+    assertEquals(1, mRequestCount.get());
+  }
+
+  @Test
+  public void load_revalidatesDiskCacheWithEtag() throws Exception {
+    loadOnce(mUrl);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    MapStyleLoader loader = new MapStyleLoader(executor, Runnable::run, mCacheDirectory);
+    List<MapStyleOptions> delivered = Collections.synchronizedList(new ArrayList<>());
+    loader.load(mUrl, delivered::add);
+    awaitIdle(executor);
+
+    // Shown from disk, then confirmed by a 304 response without a second delivery.
+    assertEquals("\"v1\"", mLastIfNoneMatch);
+    assertEquals(2, mRequestCount.get());
+    assertEquals(1, delivered.size());
+  }
+
+  @Test
+  public void load_doesNotDeliverIdenticalStyleAgain() throws Exception {
+    mEtag = null;
+    loadOnce(mUrl);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    MapStyleLoader loader = new MapStyleLoader(executor, Runnable::run, mCacheDirectory);
+    List<MapStyleOptions> delivered = Collections.synchronizedList(new ArrayList<>());
+    loader.load(mUrl, delivered::add);
+    awaitIdle(executor);
+
+    assertNull(mLastIfNoneMatch);
+    assertEquals(2, mRequestCount.get());
+    assertEquals(1, delivered.size());
+  }
+
+  @Test
+  public void load_deliversChangedStyleAgain() throws Exception {
+    loadOnce(mUrl);
+    mStyle = STYLE_V2;
+    mEtag = "\"v2\"";
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    MapStyleLoader loader = new MapStyleLoader(executor, Runnable::run, mCacheDirectory);
+    List<MapStyleOptions> delivered = Collections.synchronizedList(new ArrayList<>());
+    loader.load(mUrl, delivered::add);
+    awaitIdle(executor);
+
+    assertEquals(2, delivered.size());
+    assertNotSame(delivered.get(0), delivered.get(1));
+  }
+
+  @Test
+  public void load_leavesOnlyCompleteCacheFiles() throws Exception {
+    loadOnce(mUrl);
+
+    File[] files = mCacheDirectory.listFiles();
+    assertEquals(2, files.length);
+    for (File file : files) {
+      String name = file.getName();
+      assertTrue(name, name.endsWith(".json") || name.endsWith(".properties"));
+    }
+  }
+
+  @Test
+  public void clear_removesCachedStyles() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    MapStyleLoader loader = new MapStyleLoader(executor, Runnable::run, mCacheDirectory);
+    loader.load(mUrl, options -> {});
+    awaitIdle(executor);
+
+    CountDownLatch cleared = new CountDownLatch(1);
+    loader.clear(cleared::countDown);
+    assertTrue(cleared.await(10, TimeUnit.SECONDS));
+    assertEquals(0, mCacheDirectory.listFiles().length);
+
+    // Neither the memory nor the disk cache is used, so no validator is sent.
+    loader.load(mUrl, options -> {});
+    awaitIdle(executor);
+    assertEquals(2, mRequestCount.get());
+    assertNull(mLastIfNoneMatch);
+  }
+
+  /** Loads the style with a new loader, filling the disk cache. */
+  private void loadOnce(String url) throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    new MapStyleLoader(executor, Runnable::run, mCacheDirectory).load(url, options -> {});
+    awaitIdle(executor);
+  }
+
+  /** Waits for the tasks queued on the single-threaded executor so far. */
+  private static void awaitIdle(ExecutorService executor) throws Exception {
+    executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class PendingCommandQueueTest {
+  private final PendingCommandQueue mQueue = new PendingCommandQueue();
+  private final List<String> mRun = new ArrayList<>();
+
+  @Test
+  public void runAll_runsCommandsInOrder() {
+    mQueue.add(null, () -> mRun.add("a"));
+    mQueue.add(null, () -> mRun.add("b"));
+    mQueue.add(null, () -> mRun.add("c"));
+
+    mQueue.runAll();
+
+    assertEquals(Arrays.asList("a", "b", "c"), mRun);
+  }
+
+  @Test
+  public void add_keyedCommandReplacesPendingOneAndMovesToEnd() {
+    mQueue.add("camera", () -> mRun.add("camera 1"));
+    mQueue.add(null, () -> mRun.add("marker"));
+    mQueue.add("camera", () -> mRun.add("camera 2"));
+
+    mQueue.runAll();
+
+    assertEquals(Arrays.asList("marker", "camera 2"), mRun);
+  }
+
+  @Test
+  public void add_commandsWithoutKeyAreAllKept() {
+    mQueue.add(null, () -> mRun.add("marker"));
+    mQueue.add(null, () -> mRun.add("marker"));
+
+    mQueue.runAll();
+
+    assertEquals(Arrays.asList("marker", "marker"), mRun);
+  }
+
+  @Test
+  public void runAll_emptiesQueue() {
+    mQueue.add("camera", () -> mRun.add("camera"));
+    mQueue.runAll();
+    mQueue.runAll();
+
+    assertEquals(Arrays.asList("camera"), mRun);
+  }
+
+  @Test
+  public void runAll_keepsCommandsAddedWhileRunningForNextRun() {
+    mQueue.add(null, () -> mQueue.add(null, () -> mRun.add("nested")));
+
+    mQueue.runAll();
+    assertTrue(mRun.isEmpty());
+
+    mQueue.runAll();
+    assertEquals(Arrays.asList("nested"), mRun);
+  }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class ThresholdLocationFilterTest {
+  private static final double METERS_PER_DEGREE = 111195;
+
+  private MockedStatic<Location> mLocationStatic;
+
+  @Before
+  public void setUp() {
+    // Location.distanceBetween is a stub on the JVM, so it is replaced by a flat approximation.
+    mLocationStatic = mockStatic(Location.class);
+    mLocationStatic
+        .when(
+            () ->
+                Location.distanceBetween(
+                    anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(float[].class)))
+        .thenAnswer(
+            invocation -> {
+              double dLat = (double) invocation.getArgument(2) - (double) invocation.getArgument(0);
+              double dLng = (double) invocation.getArgument(3) - (double) invocation.getArgument(1);
+              float[] results = invocation.getArgument(4);
+              results[0] = (float) (Math.hypot(dLat, dLng) * METERS_PER_DEGREE);
+              return null;
+            });
+  }
+
+  @After
+  public void tearDown() {
+    mLocationStatic.close();
+  }
+
+  @Test
+  public void accept_rejectsEverythingWhenDisabled() {
+    LocationFilter filter = new ThresholdLocationFilter(false, 0, 0, 0, 0);
+    assertFalse(filter.accept(createLocation(0, 0, 0)));
+  }
+
+  @Test
+  public void accept_acceptsEverythingWithoutThresholds() {
+    LocationFilter filter = new ThresholdLocationFilter(true, 0, 0, 0, 0);
+    assertTrue(filter.accept(createLocation(0, 0, 0)));
+    assertTrue(filter.accept(createLocation(0, 0, 0)));
+  }
+
+  @Test
+  public void accept_rejectsInaccurateLocations() {
+    LocationFilter filter = new ThresholdLocationFilter(true, 0, 0, 0, 20);
+
+    Location inaccurate = createLocation(0, 0, 0);
+    when(inaccurate.hasAccuracy()).thenReturn(true);
+    when(inaccurate.getAccuracy()).thenReturn(50f);
+    assertFalse(filter.accept(inaccurate));
+
+    Location accurate = createLocation(0, 0, 0);
+    when(accurate.hasAccuracy()).thenReturn(true);
+    when(accurate.getAccuracy()).thenReturn(10f);
+    assertTrue(filter.accept(accurate));
+
+    // Locations without an accuracy are not gated.
+    assertTrue(filter.accept(createLocation(0, 0, 0)));
+  }
+
+  @Test
+  public void accept_rejectsLocationsBeforeMinInterval() {
+    LocationFilter filter = new ThresholdLocationFilter(true, 0, 1000, 0, 0);
+    assertTrue(filter.accept(createLocation(0, 0, 0)));
+    assertFalse(filter.accept(createLocation(0, 0, 999)));
+    assertTrue(filter.accept(createLocation(0, 0, 1000)));
+  }
+
+  @Test
+  public void accept_comparesDistanceWithLastAcceptedLocation() {
+    LocationFilter filter = new ThresholdLocationFilter(true, 10, 0, 0, 0);
+    assertTrue(filter.accept(createLocation(0, 0, 0)));
+    // About 6 m, then 6 m further, both relative to the first location.
+    assertFalse(filter.accept(createLocation(0.000054, 0, 1)));
+    assertTrue(filter.accept(createLocation(0.000108, 0, 2)));
+  }
+
+  @Test
+  public void accept_acceptsHeadingChangeWithoutDistance() {
+    LocationFilter filter = new ThresholdLocationFilter(true, 10, 0, 30, 0);
+    assertTrue(filter.accept(createLocation(0, 0, 0, 350)));
+    assertFalse(filter.accept(createLocation(0, 0, 1, 10)));
+    // Measured across north: 350 to 30 degrees is a change of 40 degrees.
+    assertTrue(filter.accept(createLocation(0, 0, 2, 30)));
+    // Without a bearing only the distance applies.
+    assertFalse(filter.accept(createLocation(0, 0, 3)));
+  }
+
+  @Test
+  public void reset_acceptsNextLocation() {
+    LocationFilter filter = new ThresholdLocationFilter(true, 10, 1000, 0, 0);
+    assertTrue(filter.accept(createLocation(0, 0, 0)));
+    assertFalse(filter.accept(createLocation(0, 0, 1)));
+
+    filter.reset();
+    assertTrue(filter.accept(createLocation(0, 0, 2)));
+  }
+
+  @Test
+  public void fromMap_readsOptions() {
+    assertSame(LocationFilter.ACCEPT_ALL, ThresholdLocationFilter.fromMap(null));
+
+    Map<String, Object> options = new HashMap<>();
+    options.put("minIntervalMs", 1000.0);
+    LocationFilter filter = ThresholdLocationFilter.fromMap(options);
+    assertTrue(filter.accept(createLocation(0, 0, 0)));
+    assertFalse(filter.accept(createLocation(0, 0, 500)));
+
+    options.put("enabled", false);
+    assertFalse(ThresholdLocationFilter.fromMap(options).accept(createLocation(0, 0, 0)));
+  }
+
+  private static Location createLocation(double lat, double lng, long time) {
+    Location location = mock(Location.class);
+    when(location.getLatitude()).thenReturn(lat);
+    when(location.getLongitude()).thenReturn(lng);
+    when(location.getTime()).thenReturn(time);
+    return location;
+  }
+
+  private static Location createLocation(double lat, double lng, long time, float bearing) {
+    Location location = createLocation(lat, lng, time);
+    when(location.hasBearing()).thenReturn(true);
+    when(location.getBearing()).thenReturn(bearing);
+    return location;
+  }
+}
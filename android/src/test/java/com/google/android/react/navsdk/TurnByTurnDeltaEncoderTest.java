@@ -0,0 +1,192 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class TurnByTurnDeltaEncoderTest {
+  /** Key set on full updates, which are built by {@code getMapFromNavInfo}. */
+  private static final String FULL_UPDATE_KEY = "full";
+
+  private final TurnByTurnDeltaEncoder mEncoder = new TurnByTurnDeltaEncoder();
+  private MockedStatic<Arguments> mArguments;
+  private MockedStatic<ObjectTranslationUtil> mObjectTranslationUtil;
+
+  @Before
+  public void setUp() {
+    // The native maps and arrays created by Arguments need the React Native libraries.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mArguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+    mObjectTranslationUtil = mockStatic(ObjectTranslationUtil.class);
+    mObjectTranslationUtil
+        .when(() -> ObjectTranslationUtil.getMapFromNavInfo(any()))
+        .thenAnswer(
+            invocation -> {
+              WritableMap map = new JavaOnlyMap();
+              map.putBoolean(FULL_UPDATE_KEY, true);
+              return map;
+            });
+  }
+
+  @After
+  public void tearDown() {
+    mObjectTranslationUtil.close();
+    mArguments.close();
+  }
+
+  @Test
+  public void encode_sendsFirstUpdateInFull() {
+    ReadableMap update = mEncoder.encode(createNavInfo(1, 500, createStep(1, 100), 1, 2));
+
+    assertFullUpdate(update);
+  }
+
+  @Test
+  public void encode_sendsOnlyChangedFields() {
+    mEncoder.encode(createNavInfo(1, 500, createStep(1, 100), 1, 2));
+
+    ReadableMap update = mEncoder.encode(createNavInfo(1, 450, createStep(1, 100), 1, 2));
+
+    assertTrue(update.getBoolean("isDelta"));
+    assertFalse(update.getBoolean("routeChanged"));
+    assertEquals(450, update.getInt("distanceToCurrentStepMeters"));
+    assertFalse(update.hasKey("navState"));
+    assertFalse(update.hasKey("currentStep"));
+    assertFalse(update.hasKey(TurnByTurnDeltaEncoder.REMOVED_FIELDS_KEY));
+  }
+
+  @Test
+  public void encode_sendsChangedFieldsOfCurrentStep() {
+    mEncoder.encode(createNavInfo(1, 500, createStep(1, 100), 1, 2));
+    StepInfo step = createStep(1, 100);
+    when(step.getFullInstructionText()).thenReturn("Turn left");
+
+    ReadableMap update = mEncoder.encode(createNavInfo(1, 500, step, 1, 2));
+
+    ReadableMap stepDelta = update.getMap("currentStep");
+    assertEquals(1, stepDelta.getInt("stepNumber"));
+    assertEquals("Turn left", stepDelta.getString("instruction"));
+    assertFalse(stepDelta.hasKey("distanceFromPrevStepMeters"));
+  }
+
+  @Test
+  public void encode_listsFieldsWithoutValueAsRemoved() {
+    NavInfo first = createNavInfo(1, 500, createStep(1, 100), 1, 2);
+    when(first.getTimeToNextDestinationSeconds()).thenReturn(60);
+    StepInfo firstStep = first.getCurrentStep();
+    when(firstStep.getFullRoadName()).thenReturn("Main Street");
+    mEncoder.encode(first);
+
+    NavInfo second = createNavInfo(1, 500, createStep(1, 100), 1, 2);
+    // Mocks return 0 for Integer getters, so the missing value is set explicitly.
+    when(second.getTimeToNextDestinationSeconds()).thenReturn(null);
+    ReadableMap update = mEncoder.encode(second);
+
+    assertEquals(
+        Arrays.asList("timeToNextDestinationSeconds"),
+        getStrings(update.getArray(TurnByTurnDeltaEncoder.REMOVED_FIELDS_KEY)));
+    assertFalse(update.hasKey("timeToNextDestinationSeconds"));
+    assertEquals(
+        Arrays.asList("fullRoadName"),
+        getStrings(
+            update.getMap("currentStep").getArray(TurnByTurnDeltaEncoder.REMOVED_FIELDS_KEY)));
+  }
+
+  @Test
+  public void encode_sendsFullUpdateWhenRouteChanges() {
+    mEncoder.encode(createNavInfo(1, 500, createStep(1, 100), 1, 2));
+    NavInfo navInfo = createNavInfo(1, 500, createStep(1, 100), 1, 2);
+    when(navInfo.getRouteChanged()).thenReturn(true);
+
+    assertFullUpdate(mEncoder.encode(navInfo));
+  }
+
+  @Test
+  public void encode_sendsFullUpdateWhenStepsChange() {
+    mEncoder.encode(createNavInfo(1, 500, createStep(1, 100), 1, 2));
+
+    // Step advance.
+    assertFullUpdate(mEncoder.encode(createNavInfo(1, 500, createStep(2, 100), 2)));
+    // Same current step, but the remaining steps changed.
+    assertFullUpdate(mEncoder.encode(createNavInfo(1, 500, createStep(2, 100), 2, 3)));
+    // Current step disappears.
+    assertFullUpdate(mEncoder.encode(createNavInfo(1, 500, null, 2, 3)));
+  }
+
+  @Test
+  public void reset_sendsNextUpdateInFull() {
+    mEncoder.encode(createNavInfo(1, 500, createStep(1, 100), 1, 2));
+    mEncoder.reset();
+
+    assertFullUpdate(mEncoder.encode(createNavInfo(1, 500, createStep(1, 100), 1, 2)));
+  }
+
+  private static NavInfo createNavInfo(
+      int navState, int distanceToCurrentStepMeters, StepInfo currentStep, int... stepNumbers) {
+    List<StepInfo> remainingSteps = new ArrayList<>();
+    for (int stepNumber : stepNumbers) {
+      remainingSteps.add(createStep(stepNumber, 0));
+    }
+
+    NavInfo navInfo = mock(NavInfo.class);
+    when(navInfo.getNavState()).thenReturn(navState);
+    when(navInfo.getDistanceToCurrentStepMeters()).thenReturn(distanceToCurrentStepMeters);
+    when(navInfo.getCurrentStep()).thenReturn(currentStep);
+    when(navInfo.getRemainingSteps()).thenReturn(remainingSteps);
+    return navInfo;
+  }
+
+  private static StepInfo createStep(int stepNumber, int distanceFromPrevStepMeters) {
+    StepInfo step = mock(StepInfo.class);
+    when(step.getStepNumber()).thenReturn(stepNumber);
+    when(step.getDistanceFromPrevStepMeters()).thenReturn(distanceFromPrevStepMeters);
+    return step;
+  }
+
+  private static void assertFullUpdate(ReadableMap update) {
+    assertTrue(update.hasKey(FULL_UPDATE_KEY));
+    assertFalse(update.getBoolean("isDelta"));
+  }
+
+  private static List<String> getStrings(ReadableArray array) {
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < array.size(); i++) {
+      values.add(array.getString(i));
+    }
+    return values;
+  }
+}
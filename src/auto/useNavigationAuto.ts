@@ -14,19 +14,25 @@
  * limitations under the License.
  */
 
-import { NativeModules } from 'react-native';
+import { NativeModules, Platform } from 'react-native';
 import type { MapViewAutoController, NavigationAutoCallbacks } from './types';
-import { useModuleListeners, type Location } from '../shared';
+import { useModuleListeners, type LatLng, type Location } from '../shared';
+import {
+  toNativePolygonOptions,
+  toNativePolylineOptions,
+} from '../shared/geometry';
+import { getOverlayHandle } from '../maps/mapView/overlayHandle';
 import type {
   MapType,
   CircleOptions,
   Circle,
+  ClusteringOptions,
   MarkerOptions,
   Marker,
   PolylineOptions,
   Polyline,
   PolygonOptions,
-  Polygon,
+  OverlayDetails,
   CameraPosition,
   UISettings,
   Padding,
@@ -81,27 +87,144 @@ export const useNavigationAuto = (): {
         return await NavAutoModule.addMarker(markerOptions);
       },
 
-      addPolyline: async (
-        polylineOptions: PolylineOptions
-      ): Promise<Polyline> => {
-        return await NavAutoModule.addPolyline({
-          ...polylineOptions,
-          points: polylineOptions.points || [],
-        });
-      },
-
-      addPolygon: async (polygonOptions: PolygonOptions): Promise<Polygon> => {
-        return await NavAutoModule.addPolygon({
-          ...polygonOptions,
-          holes: polygonOptions.holes || [],
-          points: polygonOptions.points || [],
-        });
+      updateMarker: async (
+        id: string,
+        markerOptions: Partial<MarkerOptions>
+      ): Promise<Marker | null> => {
+        if (Platform.OS !== 'android') {
+          return null;
+        }
+        return await NavAutoModule.updateMarker(id, markerOptions);
+      },
+
+      animateMarkerTo: async (
+        id: string,
+        position: LatLng,
+        durationMs: number
+      ): Promise<boolean> => {
+        if (Platform.OS !== 'android') {
+          return false;
+        }
+        return await NavAutoModule.animateMarkerTo(id, position, durationMs);
+      },
+
+      addPolyline: async (polylineOptions: PolylineOptions) => {
+        const polyline = await NavAutoModule.addPolyline(
+          toNativePolylineOptions(polylineOptions)
+        );
+        if (Platform.OS !== 'android' && polylineOptions.compactResponse) {
+          return getOverlayHandle(
+            polyline.id,
+            'polyline',
+            polylineOptions.includeBounds ? polyline.points : undefined
+          );
+        }
+        return polyline;
+      },
+
+      addMarkers: async (
+        markerOptions: MarkerOptions[]
+      ): Promise<(string | null)[]> => {
+        if (Platform.OS !== 'android') {
+          const markers: (Marker | null)[] = await Promise.all(
+            markerOptions.map(options => NavAutoModule.addMarker(options))
+          );
+          return markers.map(marker => marker?.id ?? null);
+        }
+        return await NavAutoModule.addMarkers(markerOptions);
+      },
+
+      addPolylines: async (
+        polylineOptions: PolylineOptions[]
+      ): Promise<(string | null)[]> => {
+        const optionsWithPoints = polylineOptions.map(toNativePolylineOptions);
+        if (Platform.OS !== 'android') {
+          const polylines: (Polyline | null)[] = await Promise.all(
+            optionsWithPoints.map(options => NavAutoModule.addPolyline(options))
+          );
+          return polylines.map(polyline => polyline?.id ?? null);
+        }
+        return await NavAutoModule.addPolylines(optionsWithPoints);
+      },
+
+      addPolygon: async (polygonOptions: PolygonOptions) => {
+        const polygon = await NavAutoModule.addPolygon(
+          toNativePolygonOptions(polygonOptions)
+        );
+        if (Platform.OS !== 'android' && polygonOptions.compactResponse) {
+          return getOverlayHandle(
+            polygon.id,
+            'polygon',
+            polygonOptions.includeBounds ? polygon.points : undefined
+          );
+        }
+        return polygon;
       },
 
       removeMarker: (id: string) => {
         return NavAutoModule.removeMarker(id);
       },
 
+      removeMarkers: async (ids: string[]): Promise<number> => {
+        if (Platform.OS !== 'android') {
+          for (const id of ids) {
+            NavAutoModule.removeMarker(id);
+          }
+          return ids.length;
+        }
+        return await NavAutoModule.removeMarkers(ids);
+      },
+
+      setClusteringOptions: (options: ClusteringOptions) => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.setClusteringOptions(options);
+        }
+      },
+
+      addClusteredMarkers: async (
+        markerOptions: MarkerOptions[]
+      ): Promise<string[]> => {
+        if (Platform.OS !== 'android') {
+          return [];
+        }
+        return await NavAutoModule.addClusteredMarkers(markerOptions);
+      },
+
+      removeClusteredMarkers: async (ids: string[]): Promise<number> => {
+        if (Platform.OS !== 'android') {
+          return 0;
+        }
+        return await NavAutoModule.removeClusteredMarkers(ids);
+      },
+
+      clearClusteredMarkers: () => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.clearClusteredMarkers();
+        }
+      },
+
+      addVirtualMarkers: async (
+        markerOptions: MarkerOptions[]
+      ): Promise<string[]> => {
+        if (Platform.OS !== 'android') {
+          return [];
+        }
+        return await NavAutoModule.addVirtualMarkers(markerOptions);
+      },
+
+      removeVirtualMarkers: async (ids: string[]): Promise<number> => {
+        if (Platform.OS !== 'android') {
+          return 0;
+        }
+        return await NavAutoModule.removeVirtualMarkers(ids);
+      },
+
+      clearVirtualMarkers: () => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.clearVirtualMarkers();
+        }
+      },
+
       removePolyline: (id: string) => {
         return NavAutoModule.removePolyline(id);
       },
@@ -114,6 +237,49 @@ export const useNavigationAuto = (): {
         return NavAutoModule.removeCircle(id);
       },
 
+      removeOverlays: async (ids: string[]): Promise<number> => {
+        if (Platform.OS !== 'android') {
+          for (const id of ids) {
+            NavAutoModule.removeMarker(id);
+            NavAutoModule.removePolyline(id);
+            NavAutoModule.removePolygon(id);
+            NavAutoModule.removeCircle(id);
+          }
+          return ids.length;
+        }
+        return await NavAutoModule.removeOverlays(ids);
+      },
+
+      getOverlay: async (id: string): Promise<OverlayDetails | null> => {
+        if (Platform.OS !== 'android') {
+          return null;
+        }
+        return await NavAutoModule.getOverlay(id);
+      },
+
+      getOverlayCount: async (): Promise<number> => {
+        if (Platform.OS !== 'android') {
+          return 0;
+        }
+        return await NavAutoModule.getOverlayCount();
+      },
+
+      queryContainingOverlays: async (latLng: LatLng): Promise<string[]> => {
+        if (Platform.OS !== 'android') {
+          return [];
+        }
+        return await NavAutoModule.queryContainingOverlays(latLng);
+      },
+
+      queryContainingOverlaysBatch: async (
+        latLngs: LatLng[]
+      ): Promise<string[][]> => {
+        if (Platform.OS !== 'android') {
+          return latLngs.map(() => []);
+        }
+        return await NavAutoModule.queryContainingOverlaysBatch(latLngs);
+      },
+
       setIndoorEnabled: (isOn: boolean) => {
         return NavAutoModule.setIndoorEnabled(isOn);
       },
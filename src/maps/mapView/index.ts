@@ -16,4 +16,7 @@
 
 export * from './types';
 export * from './mapViewController';
+export * from './mapViewPool';
+export * from './mapStyleCache';
+export * from './markerIconCache';
 export * from './mapView';
@@ -0,0 +1,32 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import { NativeModules, Platform } from 'react-native';
+const { NavViewModule } = NativeModules;
+
+/**
+ * Removes the map styles loaded from URLs from the memory and disk caches, so
+ * they are downloaded again the next time they are used. Styles already shown
+ * by map views are kept.
+ *
+ * Only has an effect on Android.
+ */
+export const clearMapStyleCache = async (): Promise<void> => {
+  if (Platform.OS !== 'android') {
+    return;
+  }
+  await NavViewModule.clearMapStyleCache();
+};
@@ -24,6 +24,7 @@ import {
   type GroundOverlay,
   type MapViewProps,
   type Marker,
+  type MarkerCluster,
   type Polygon,
   type Polyline,
 } from '..';
@@ -74,6 +75,13 @@ export const MapView = (props: MapViewProps): React.JSX.Element => {
     [props.mapViewCallbacks]
   );
 
+  const onClusterClick = useCallback(
+    ({ nativeEvent: cluster }: { nativeEvent: MarkerCluster }) => {
+      props.mapViewCallbacks?.onClusterClick?.(cluster);
+    },
+    [props.mapViewCallbacks]
+  );
+
   const onPolylineClick = useCallback(
     ({ nativeEvent: polyline }: { nativeEvent: Polyline }) => {
       props.mapViewCallbacks?.onPolylineClick?.(polyline);
@@ -118,6 +126,7 @@ export const MapView = (props: MapViewProps): React.JSX.Element => {
         onMapClick={onMapClick}
         onMapReady={onMapReady}
         onMarkerClick={onMarkerClick}
+        onClusterClick={onClusterClick}
         onPolylineClick={onPolylineClick}
         onPolygonClick={onPolygonClick}
         onCircleClick={onCircleClick}
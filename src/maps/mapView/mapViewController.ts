@@ -14,19 +14,28 @@
  * limitations under the License.
  */
 
-import { NativeModules } from 'react-native';
-import type { Location } from '../../shared/types';
-import { commands, sendCommand } from '../../shared/viewManager';
+import { NativeModules, Platform } from 'react-native';
+import type { LatLng, Location } from '../../shared/types';
+import {
+  toNativePolygonOptions,
+  toNativePolylineOptions,
+} from '../../shared/geometry';
+import {
+  commands,
+  sendCommand,
+  withFlushedCommands,
+} from '../../shared/viewManager';
 import type {
   CameraPosition,
   Circle,
   Marker,
-  Polygon,
+  OverlayDetails,
   Polyline,
   UISettings,
 } from '../types';
 import type {
   CircleOptions,
+  ClusteringOptions,
   MapType,
   MapViewController,
   MarkerOptions,
@@ -34,9 +43,12 @@ import type {
   PolygonOptions,
   PolylineOptions,
 } from './types';
-const { NavViewModule } = NativeModules;
-
+import { getOverlayHandle } from './overlayHandle';
 export const getMapViewController = (viewId: number): MapViewController => {
+  const NavViewModule = withFlushedCommands(
+    viewId,
+    NativeModules.NavViewModule
+  );
   return {
     setMapType: (mapType: MapType) => {
       sendCommand(viewId, commands.setMapType, [mapType]);
@@ -59,27 +71,153 @@ export const getMapViewController = (viewId: number): MapViewController => {
       return await NavViewModule.addMarker(viewId, markerOptions);
     },
 
-    addPolyline: async (
-      polylineOptions: PolylineOptions
-    ): Promise<Polyline> => {
-      return await NavViewModule.addPolyline(viewId, {
-        ...polylineOptions,
-        points: polylineOptions.points || [],
-      });
+    updateMarker: async (
+      id: string,
+      markerOptions: Partial<MarkerOptions>
+    ): Promise<Marker | null> => {
+      if (Platform.OS !== 'android') {
+        return null;
+      }
+      return await NavViewModule.updateMarker(viewId, id, markerOptions);
+    },
+
+    animateMarkerTo: async (
+      id: string,
+      position: LatLng,
+      durationMs: number
+    ): Promise<boolean> => {
+      if (Platform.OS !== 'android') {
+        return false;
+      }
+      return await NavViewModule.animateMarkerTo(
+        viewId,
+        id,
+        position,
+        durationMs
+      );
+    },
+
+    addPolyline: async (polylineOptions: PolylineOptions) => {
+      const polyline = await NavViewModule.addPolyline(
+        viewId,
+        toNativePolylineOptions(polylineOptions)
+      );
+      if (Platform.OS !== 'android' && polylineOptions.compactResponse) {
+        return getOverlayHandle(
+          polyline.id,
+          'polyline',
+          polylineOptions.includeBounds ? polyline.points : undefined
+        );
+      }
+      return polyline;
+    },
+
+    addMarkers: async (
+      markerOptions: MarkerOptions[]
+    ): Promise<(string | null)[]> => {
+      if (Platform.OS !== 'android') {
+        const markers: (Marker | null)[] = await Promise.all(
+          markerOptions.map(options => NavViewModule.addMarker(viewId, options))
+        );
+        return markers.map(marker => marker?.id ?? null);
+      }
+      return await NavViewModule.addMarkers(viewId, markerOptions);
+    },
+
+    addPolylines: async (
+      polylineOptions: PolylineOptions[]
+    ): Promise<(string | null)[]> => {
+      const optionsWithPoints = polylineOptions.map(toNativePolylineOptions);
+      if (Platform.OS !== 'android') {
+        const polylines: (Polyline | null)[] = await Promise.all(
+          optionsWithPoints.map(options =>
+            NavViewModule.addPolyline(viewId, options)
+          )
+        );
+        return polylines.map(polyline => polyline?.id ?? null);
+      }
+      return await NavViewModule.addPolylines(viewId, optionsWithPoints);
     },
 
-    addPolygon: async (polygonOptions: PolygonOptions): Promise<Polygon> => {
-      return await NavViewModule.addPolygon(viewId, {
-        ...polygonOptions,
-        holes: polygonOptions.holes || [],
-        points: polygonOptions.points || [],
-      });
+    addPolygon: async (polygonOptions: PolygonOptions) => {
+      const polygon = await NavViewModule.addPolygon(
+        viewId,
+        toNativePolygonOptions(polygonOptions)
+      );
+      if (Platform.OS !== 'android' && polygonOptions.compactResponse) {
+        return getOverlayHandle(
+          polygon.id,
+          'polygon',
+          polygonOptions.includeBounds ? polygon.points : undefined
+        );
+      }
+      return polygon;
     },
 
     removeMarker: (id: string) => {
       sendCommand(viewId, commands.removeMarker, [id]);
     },
 
+    removeMarkers: async (ids: string[]): Promise<number> => {
+      if (Platform.OS !== 'android') {
+        for (const id of ids) {
+          sendCommand(viewId, commands.removeMarker, [id]);
+        }
+        return ids.length;
+      }
+      return await NavViewModule.removeMarkers(viewId, ids);
+    },
+
+    setClusteringOptions: (options: ClusteringOptions) => {
+      if (Platform.OS === 'android') {
+        NavViewModule.setClusteringOptions(viewId, options);
+      }
+    },
+
+    addClusteredMarkers: async (
+      markerOptions: MarkerOptions[]
+    ): Promise<string[]> => {
+      if (Platform.OS !== 'android') {
+        return [];
+      }
+      return await NavViewModule.addClusteredMarkers(viewId, markerOptions);
+    },
+
+    removeClusteredMarkers: async (ids: string[]): Promise<number> => {
+      if (Platform.OS !== 'android') {
+        return 0;
+      }
+      return await NavViewModule.removeClusteredMarkers(viewId, ids);
+    },
+
+    clearClusteredMarkers: () => {
+      if (Platform.OS === 'android') {
+        NavViewModule.clearClusteredMarkers(viewId);
+      }
+    },
+
+    addVirtualMarkers: async (
+      markerOptions: MarkerOptions[]
+    ): Promise<string[]> => {
+      if (Platform.OS !== 'android') {
+        return [];
+      }
+      return await NavViewModule.addVirtualMarkers(viewId, markerOptions);
+    },
+
+    removeVirtualMarkers: async (ids: string[]): Promise<number> => {
+      if (Platform.OS !== 'android') {
+        return 0;
+      }
+      return await NavViewModule.removeVirtualMarkers(viewId, ids);
+    },
+
+    clearVirtualMarkers: () => {
+      if (Platform.OS === 'android') {
+        NavViewModule.clearVirtualMarkers(viewId);
+      }
+    },
+
     removePolyline: (id: string) => {
       sendCommand(viewId, commands.removePolyline, [id]);
     },
@@ -92,6 +230,49 @@ export const getMapViewController = (viewId: number): MapViewController => {
       sendCommand(viewId, commands.removeCircle, [id]);
     },
 
+    removeOverlays: async (ids: string[]): Promise<number> => {
+      if (Platform.OS !== 'android') {
+        for (const id of ids) {
+          sendCommand(viewId, commands.removeMarker, [id]);
+          sendCommand(viewId, commands.removePolyline, [id]);
+          sendCommand(viewId, commands.removePolygon, [id]);
+          sendCommand(viewId, commands.removeCircle, [id]);
+        }
+        return ids.length;
+      }
+      return await NavViewModule.removeOverlays(viewId, ids);
+    },
+
+    getOverlay: async (id: string): Promise<OverlayDetails | null> => {
+      if (Platform.OS !== 'android') {
+        return null;
+      }
+      return await NavViewModule.getOverlay(viewId, id);
+    },
+
+    getOverlayCount: async (): Promise<number> => {
+      if (Platform.OS !== 'android') {
+        return 0;
+      }
+      return await NavViewModule.getOverlayCount(viewId);
+    },
+
+    queryContainingOverlays: async (latLng: LatLng): Promise<string[]> => {
+      if (Platform.OS !== 'android') {
+        return [];
+      }
+      return await NavViewModule.queryContainingOverlays(viewId, latLng);
+    },
+
+    queryContainingOverlaysBatch: async (
+      latLngs: LatLng[]
+    ): Promise<string[][]> => {
+      if (Platform.OS !== 'android') {
+        return latLngs.map(() => []);
+      }
+      return await NavViewModule.queryContainingOverlaysBatch(viewId, latLngs);
+    },
+
     setIndoorEnabled: (isOn: boolean) => {
       sendCommand(viewId, commands.setIndoorEnabled, [isOn]);
     },
@@ -0,0 +1,37 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import { NativeModules, Platform } from 'react-native';
+import type { MapViewPoolOptions } from './types';
+const { NavViewModule } = NativeModules;
+
+/**
+ * Keeps map and navigation fragments initialized in the background, so that
+ * map views mounted later are ready almost immediately. Fragments of unmounted
+ * views are reused. Passing zero for both counts disables the pool.
+ *
+ * Only has an effect on Android.
+ *
+ * @param options - Number of kept fragments of each type.
+ */
+export const configureMapViewPool = async (
+  options: MapViewPoolOptions
+): Promise<void> => {
+  if (Platform.OS !== 'android') {
+    return;
+  }
+  await NavViewModule.configureMapViewPool(options);
+};
@@ -0,0 +1,33 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import { NativeModules, Platform } from 'react-native';
+import type { MarkerIconCacheStats } from './types';
+const { NavViewModule } = NativeModules;
+
+/**
+ * Returns how often marker and ground overlay images were found in the shared
+ * image cache since the app started.
+ *
+ * Only supported on Android; resolves to null on other platforms.
+ */
+export const getMarkerIconCacheStats =
+  async (): Promise<MarkerIconCacheStats | null> => {
+    if (Platform.OS !== 'android') {
+      return null;
+    }
+    return await NavViewModule.getMarkerIconCacheStats();
+  };
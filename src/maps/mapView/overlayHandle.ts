@@ -0,0 +1,51 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import type { LatLng } from '../../shared/types';
+import type { OverlayHandle, OverlayType } from '../types';
+
+/**
+ * Builds a compact handle in JS for platforms that always resolve add calls
+ * with the full overlay.
+ */
+export const getOverlayHandle = (
+  id: string,
+  type: OverlayType,
+  points?: LatLng[]
+): OverlayHandle => {
+  if (points == null || points.length === 0) {
+    return { id, type };
+  }
+
+  let north = -90;
+  let south = 90;
+  let east = -180;
+  let west = 180;
+  for (const point of points) {
+    north = Math.max(north, point.lat);
+    south = Math.min(south, point.lat);
+    east = Math.max(east, point.lng);
+    west = Math.min(west, point.lng);
+  }
+  return {
+    id,
+    type,
+    bounds: {
+      northEast: { lat: north, lng: east },
+      southWest: { lat: south, lng: west },
+    },
+  };
+};
@@ -14,17 +14,60 @@
  * limitations under the License.
  */
 
-import type { LatLng, Location } from '../../shared/types';
+import type {
+  CompactLatLngs,
+  LatLng,
+  Location,
+} from '../../shared/types';
 import type {
   CameraPosition,
   Circle,
   GroundOverlay,
   Marker,
+  MarkerCluster,
+  OverlayDetails,
+  OverlayHandle,
   Polygon,
   Polyline,
   UISettings,
 } from '../types';
 
+/**
+ * Defines how many initialized map fragments are kept for views mounted
+ * later (Android only).
+ */
+export interface MapViewPoolOptions {
+  /** Number of kept map view fragments. Defaults to 0. */
+  mapViews?: number;
+  /** Number of kept navigation view fragments. Defaults to 0. */
+  navigationViews?: number;
+}
+
+/**
+ * Usage counts of the cache of marker and ground overlay images shared by all
+ * map views (Android only).
+ */
+export interface MarkerIconCacheStats {
+  /** Number of images found in the cache. */
+  hitCount: number;
+  /** Number of images that had to be loaded. */
+  missCount: number;
+  /** Number of images currently cached. */
+  size: number;
+}
+
+/**
+ * Defines options for marker clustering (Android only).
+ */
+export interface ClusteringOptions {
+  /** Whether markers are clustered. Defaults to true. */
+  enabled?: boolean;
+  /** Size of the square cells markers are grouped in, in dp. Defaults to 60. */
+  radius?: number;
+  /** Minimum number of markers in a cell to form a cluster. Defaults to 4. */
+  minClusterSize?: number;
+}
+
 /**
  * Defines options for a Circle.
  */
@@ -77,6 +120,10 @@ export interface PolygonOptions {
   points: LatLng[];
   /** An array of holes, where a hole is an array of LatLngs. */
   holes?: LatLng[][];
+  /** The vertices of the polygon as a flat [lat, lng, ...] number array or an encoded polyline string. Used instead of points when set, in which case points can be empty. */
+  compactPoints?: CompactLatLngs;
+  /** The holes of the polygon, each given in a format accepted by compactPoints. Used instead of holes when set. */
+  compactHoles?: CompactLatLngs[];
   /** Sets the width of the stroke of the polygon. The width is defined in pixels. */
   strokeWidth?: number;
   /** Sets the stroke color of this polygon. The color in hex format (ie. #RRGGBB). */
@@ -89,6 +136,10 @@ export interface PolygonOptions {
   clickable?: boolean;
   /** Indicates the visibility of the polygon. True by default. */
   visible?: boolean;
+  /** Resolves the add call with a compact OverlayHandle instead of the full overlay, so the points are not sent back. False by default. */
+  compactResponse?: boolean;
+  /** Includes the bounds of the points in the compact response. False by default. */
+  includeBounds?: boolean;
 }
 
 /**
@@ -97,6 +148,8 @@ export interface PolygonOptions {
 export interface PolylineOptions {
   /** An array of LatLngs that are the vertices of the polyline. */
   points: LatLng[];
+  /** The vertices of the polyline as a flat [lat, lng, ...] number array or an encoded polyline string. Used instead of points when set, in which case points can be empty. */
+  compactPoints?: CompactLatLngs;
   /** The color of this polyline. The color in hex format (ie. #RRGGBB). */
   color?: string;
   /** The width of the stroke of the polyline. The width is defined in pixels. */
@@ -105,6 +158,12 @@ export interface PolylineOptions {
   clickable?: boolean;
   /** Indicates the visibility of the polyline. True by default. */
   visible?: boolean;
+  /** Resolves the add call with a compact OverlayHandle instead of the full overlay, so the points are not sent back. False by default. */
+  compactResponse?: boolean;
+  /** Includes the bounds of the points in the compact response. False by default. */
+  includeBounds?: boolean;
+  /** Shows simplified versions of the polyline at low zoom levels, which reduces rendering cost for polylines with many points. The simplified versions are computed in the background after the polyline is added. False by default. (Android only) */
+  levelOfDetail?: boolean;
 }
 
 /**
@@ -162,6 +221,13 @@ export interface MapViewCallbacks {
    */
   onMarkerClick?(marker: Marker): void;
 
+  /**
+   * Callback invoked when clicking a cluster of markers added with
+   * addClusteredMarkers (Android only). Clustered markers shown on their own
+   * are reported through onMarkerClick with the id from addClusteredMarkers.
+   */
+  onClusterClick?(cluster: MarkerCluster): void;
+
   /**
    * Callback invoked when clicking a polyline on the map.
    */
@@ -238,14 +304,68 @@ export interface MapViewController {
    *                        rotation, and various flags for other properties.
    */
   addMarker(markerOptions: MarkerOptions): Promise<Marker>;
+
+  /**
+   * Changes properties of an existing marker in place, keeping its id (Android
+   * only). Only the given properties are changed.
+   *
+   * @param id - Id of the marker to update.
+   * @param markerOptions - Properties to change.
+   * @returns the updated marker, or null if there is no marker with this id.
+   */
+  updateMarker(
+    id: string,
+    markerOptions: Partial<MarkerOptions>
+  ): Promise<Marker | null>;
+
+  /**
+   * Moves an existing marker smoothly to a new position (Android only). The
+   * position is interpolated natively on every frame, so calling this once per
+   * location update is enough for smooth motion. A running animation of the
+   * same marker continues from the marker's current position.
+   *
+   * @param id - Id of the marker to move.
+   * @param position - Target position.
+   * @param durationMs - Duration of the animation in milliseconds.
+   * @returns false if there is no marker with this id.
+   */
+  animateMarkerTo(
+    id: string,
+    position: LatLng,
+    durationMs: number
+  ): Promise<boolean>;
+
   /**
    * Add a polyline to the map.
    *
    * @param polylineOptions - Object specifying properties of the polyline,
    *                          including coordinates, color, width, and visibility.
    */
+  addPolyline(
+    polylineOptions: PolylineOptions & { compactResponse: true }
+  ): Promise<OverlayHandle>;
   addPolyline(polylineOptions: PolylineOptions): Promise<Polyline>;
 
+  /**
+   * Adds multiple markers in a single call. On Android the markers are added
+   * in slices spread over several frames to keep the UI responsive.
+   *
+   * @param markerOptions - Array of marker options.
+   * @returns the ids of the added markers, in the order of the options. An
+   * entry is null if its marker could not be added.
+   */
+  addMarkers(markerOptions: MarkerOptions[]): Promise<(string | null)[]>;
+
+  /**
+   * Adds multiple polylines in a single call. On Android the polylines are
+   * added in slices spread over several frames to keep the UI responsive.
+   *
+   * @param polylineOptions - Array of polyline options.
+   * @returns the ids of the added polylines, in the order of the options. An
+   * entry is null if its polyline could not be added.
+   */
+  addPolylines(polylineOptions: PolylineOptions[]): Promise<(string | null)[]>;
+
   /**
    * Add a polygon to the map.
    *
@@ -253,7 +373,9 @@ export interface MapViewController {
    *                         including coordinates, stroke color, fill color,
    *                         and visibility.
    */
-
+  addPolygon(
+    polygonOptions: PolygonOptions & { compactResponse: true }
+  ): Promise<OverlayHandle>;
   addPolygon(polygonOptions: PolygonOptions): Promise<Polygon>;
 
   /**
@@ -263,6 +385,72 @@ export interface MapViewController {
    */
   removeMarker(id: string): void;
 
+  /**
+   * Removes multiple markers from the map in a single call.
+   *
+   * @param ids - Ids of the markers to remove.
+   * @returns the number of markers that were removed. On iOS, resolves with
+   * the number of ids passed.
+   */
+  removeMarkers(ids: string[]): Promise<number>;
+
+  /**
+   * Configures clustering of the markers added with addClusteredMarkers
+   * (Android only). Clusters are recomputed whenever the camera stops moving.
+   *
+   * @param options - Clustering options.
+   */
+  setClusteringOptions(options: ClusteringOptions): void;
+
+  /**
+   * Adds markers that are grouped into clusters when they are close to each
+   * other on screen (Android only). Clustering must be enabled with
+   * setClusteringOptions; otherwise the markers are all shown individually.
+   *
+   * @param markerOptions - Array of marker options.
+   * @returns stable ids for the markers, in the order of the options.
+   */
+  addClusteredMarkers(markerOptions: MarkerOptions[]): Promise<string[]>;
+
+  /**
+   * Removes markers added with addClusteredMarkers (Android only).
+   *
+   * @param ids - Ids returned by addClusteredMarkers.
+   * @returns the number of markers that were removed.
+   */
+  removeClusteredMarkers(ids: string[]): Promise<number>;
+
+  /**
+   * Removes all markers added with addClusteredMarkers (Android only).
+   */
+  clearClusteredMarkers(): void;
+
+  /**
+   * Adds markers that are only created on the map while they are inside or
+   * near the visible region (Android only). Markers outside of it only keep
+   * their definition in memory, which allows showing tens of thousands of
+   * markers. Markers are refreshed whenever the camera stops moving.
+   *
+   * @param markerOptions - Array of marker options. Only position, imgPath,
+   * title, snippet, alpha, rotation and flat are supported.
+   * @returns stable ids for the markers, in the order of the options. Marker
+   * click events report these ids.
+   */
+  addVirtualMarkers(markerOptions: MarkerOptions[]): Promise<string[]>;
+
+  /**
+   * Removes markers added with addVirtualMarkers (Android only).
+   *
+   * @param ids - Ids returned by addVirtualMarkers.
+   * @returns the number of markers that were removed.
+   */
+  removeVirtualMarkers(ids: string[]): Promise<number>;
+
+  /**
+   * Removes all markers added with addVirtualMarkers (Android only).
+   */
+  clearVirtualMarkers(): void;
+
   /**
    * Removes a polyline from the map.
    *
@@ -284,6 +472,50 @@ export interface MapViewController {
    */
   removeCircle(id: string): void;
 
+  /**
+   * Removes overlays of any type (markers, polylines, polygons, circles and
+   * ground overlays) from the map in a single call.
+   *
+   * @param ids - Ids of the overlays to remove.
+   * @returns the number of overlays that were removed. On iOS, resolves with
+   * the number of ids passed.
+   */
+  removeOverlays(ids: string[]): Promise<number>;
+
+  /**
+   * Returns the number of overlays currently added to the map (Android only).
+   * Resolves with 0 on iOS.
+   */
+  getOverlayCount(): Promise<number>;
+
+  /**
+   * Returns the full details of an overlay of any type, including the
+   * geometry that is left out of compact responses (Android only). Resolves
+   * with null if there is no overlay with this id, and always on iOS.
+   *
+   * @param id - Id of the overlay.
+   */
+  getOverlay(id: string): Promise<OverlayDetails | null>;
+
+  /**
+   * Returns the ids of the polygons and circles on the map that contain a
+   * point (Android only). Useful for geofencing, for example with the
+   * road-snapped location. The lookup runs natively on a background thread.
+   * Resolves with an empty array on iOS.
+   *
+   * @param latLng - Point to look up.
+   */
+  queryContainingOverlays(latLng: LatLng): Promise<string[]>;
+
+  /**
+   * Batch variant of queryContainingOverlays (Android only). Resolves with
+   * one array of ids per point, in the order of the points. Each array is
+   * empty on iOS.
+   *
+   * @param latLngs - Points to look up.
+   */
+  queryContainingOverlaysBatch(latLngs: LatLng[]): Promise<string[][]>;
+
   /**
    * Enable or disable the indoor map layer.
    *
@@ -118,6 +118,55 @@ export interface Marker {
   zIndex?: number;
 }
 
+/**
+ * A group of clustered markers shown as a single marker (Android only).
+ */
+export interface MarkerCluster {
+  /** Id of the marker showing the cluster. Changes when clusters are recomputed. */
+  id: string;
+  /** Position of the cluster marker, at the centroid of its markers. */
+  position: LatLng;
+  /** Number of markers in the cluster. */
+  count: number;
+  /** Ids of the clustered markers, as returned by addClusteredMarkers. */
+  itemIds: string[];
+  /** Bounds containing all markers of the cluster. */
+  bounds: { northEast: LatLng; southWest: LatLng };
+}
+
+/**
+ * Type of an overlay added to a map.
+ */
+export type OverlayType =
+  | 'marker'
+  | 'polyline'
+  | 'polygon'
+  | 'circle'
+  | 'groundOverlay';
+
+/**
+ * Compact reference to an overlay, returned instead of the full overlay when
+ * compactResponse is set in its options.
+ */
+export interface OverlayHandle {
+  /** Id of the overlay. */
+  id: string;
+  /** Type of the overlay. */
+  type: OverlayType;
+  /** Bounds of the overlay's points, only present when includeBounds is set. */
+  bounds?: LatLngBounds;
+}
+
+/**
+ * Full details of an overlay of any type, as returned by getOverlay.
+ */
+export type OverlayDetails =
+  | ({ type: 'marker' } & Marker)
+  | ({ type: 'polyline' } & Polyline)
+  | ({ type: 'polygon' } & Polygon)
+  | ({ type: 'circle' } & Circle)
+  | ({ type: 'groundOverlay' } & GroundOverlay);
+
 /**
  * A polyline is a list of points, where line segments are drawn between consecutive points.
  */
@@ -14,12 +14,14 @@
  * limitations under the License.
  */
 
-import type { LatLng, Location } from '../../shared/types';
+import type { GeometryFormat, LatLng, Location } from '../../shared/types';
 import type {
   AlternateRoutingStrategy,
   AudioGuidance,
   NavigationInitErrorCode,
   RouteSegment,
+  FormattedRouteSegment,
+  RouteSegmentPoints,
   RouteStatus,
   RoutingStrategy,
   TimeAndDistance,
@@ -141,6 +143,117 @@ export interface LocationSimulationOptions {
   readonly speedMultiplier: number;
 }
 
+/**
+ * Thresholds used to filter location updates before they are sent to
+ * JavaScript. A location is sent when it is accurate enough, enough time has
+ * passed, and it has either moved or turned enough since the last sent
+ * location. Thresholds that are not set are not applied.
+ */
+export interface LocationFilterOptions {
+  /** Whether updates of this kind are sent at all. Defaults to true. */
+  enabled?: boolean;
+  /** Minimum distance from the last sent location, in meters. */
+  minDistanceMeters?: number;
+  /** Minimum time since the last sent location, in milliseconds. */
+  minIntervalMs?: number;
+  /** Minimum change in bearing since the last sent location, in degrees. */
+  minHeadingChangeDegrees?: number;
+  /** Locations with a horizontal accuracy worse than this are dropped. */
+  maxAccuracyMeters?: number;
+}
+
+/**
+ * Options for location updates (Android only).
+ */
+export interface LocationUpdateOptions {
+  /** Filter applied to onLocationChanged updates. */
+  roadSnapped?: LocationFilterOptions;
+  /** Filter applied to onRawLocationChanged updates. */
+  raw?: LocationFilterOptions;
+  /**
+   * If set, road-snapped locations are delivered in batches through
+   * onLocationBatch instead of one by one through onLocationChanged.
+   */
+  batch?: LocationBatchOptions;
+}
+
+/**
+ * Options for batched delivery of road-snapped locations.
+ */
+export interface LocationBatchOptions {
+  /** Number of locations collected before a batch is sent. Defaults to 10. */
+  maxLocations?: number;
+  /**
+   * Maximum time in milliseconds a location is held before its batch is sent.
+   * If not set, batches are only sent once full.
+   */
+  maxDelayMs?: number;
+}
+
+/**
+ * Options for querying the recorded location history.
+ */
+export interface LocationHistoryOptions {
+  /**
+   * Only locations recorded at or after this time, in milliseconds since
+   * Unix Epoch, are returned. Defaults to 0.
+   */
+  sinceTimestamp?: number;
+  /**
+   * Maximum number of locations returned, keeping the most recent ones.
+   * Defaults to no limit.
+   */
+  maxPoints?: number;
+  /** Keeps only every n-th location. Defaults to 1. */
+  decimation?: number;
+}
+
+/**
+ * A batch of locations stored as parallel arrays, where index i of every
+ * array describes the same location.
+ */
+export interface LocationBatch {
+  lat: number[];
+  lng: number[];
+  /** Times in milliseconds since Unix Epoch. */
+  time: number[];
+  /** Speeds in meters per second. */
+  speed: number[];
+  /** Bearings in degrees, or null when not available. */
+  bearing: (number | null)[];
+  /** Horizontal accuracies in meters, or null when not available. */
+  accuracy: (number | null)[];
+}
+
+/**
+ * Minimum changes in remaining time or distance required before
+ * onRemainingTimeOrDistanceChanged is emitted (Android only).
+ */
+export interface RemainingTimeOrDistanceChangedThresholds {
+  /** Minimum change in remaining time, in seconds. Defaults to 0. */
+  seconds?: number;
+  /** Minimum change in remaining distance, in meters. Defaults to 0. */
+  meters?: number;
+}
+
+/**
+ * Options for delivering navigation events in batches (Android only).
+ */
+export interface EventBatchingOptions {
+  /**
+   * Whether events are buffered natively and delivered to JavaScript in a
+   * single batch. State-like events (location, remaining time or distance,
+   * traffic and turn-by-turn updates) only deliver their latest value per
+   * batch. Discrete events are delivered in order.
+   */
+  enabled: boolean;
+  /**
+   * Interval between batches in milliseconds. Defaults to 0, which delivers
+   * once per frame.
+   */
+  flushIntervalMs?: number;
+}
+
 /** Defines all callbacks to be emitted during navigation. */
 export interface NavigationCallbacks {
   /**
@@ -162,6 +275,14 @@ export interface NavigationCallbacks {
    */
   onLocationChanged?(location: Location): void;
 
+  /**
+   * Callback function invoked with a batch of road-snapped locations when
+   * batched location delivery is enabled (Android only).
+   *
+   * @param batch - The buffered locations as parallel arrays.
+   */
+  onLocationBatch?(batch: LocationBatch): void;
+
   /**
    * A callback function that gets invoked when navigation information is ready.
    *
@@ -201,8 +322,11 @@ export interface NavigationCallbacks {
 
   /**
    * Callback function when the remaining time or distance changes.
+   *
+   * @param timeAndDistance - The time and distance current at the moment the
+   * event was emitted (Android only).
    */
-  onRemainingTimeOrDistanceChanged?(): void;
+  onRemainingTimeOrDistanceChanged?(timeAndDistance?: TimeAndDistance): void;
 
   /**
    * Callback that gets triggered when the navigation failed to initilize.
@@ -293,6 +417,45 @@ export interface NavigationController {
    */
   getRouteSegments(): Promise<RouteSegment[]>;
 
+  /**
+   * Retrieves the current route segment with its geometry in the given
+   * format (Android only). Encoded or packed geometry avoids creating an
+   * object per point for long routes.
+   *
+   * @param geometryFormat - Format of the segment points.
+   */
+  getCurrentRouteSegmentWithFormat(
+    geometryFormat: GeometryFormat
+  ): Promise<FormattedRouteSegment | null>;
+
+  /**
+   * Retrieves all route segments with their geometry in the given format
+   * (Android only). Use GeometryFormat.NONE together with
+   * getRouteSegmentPoints to page through the points of long routes.
+   *
+   * @param geometryFormat - Format of the segment points.
+   */
+  getRouteSegmentsWithFormat(
+    geometryFormat: GeometryFormat
+  ): Promise<FormattedRouteSegment[]>;
+
+  /**
+   * Retrieves a page of the points of a single route segment (Android only).
+   *
+   * @param segmentIndex - Index of the segment as returned by getRouteSegments.
+   * @param pointOffset - Index of the first point to return. Defaults to 0.
+   * @param pointLimit - Maximum number of points to return. Defaults to all.
+   * @param geometryFormat - Format of the points. Defaults to
+   * GeometryFormat.ENCODED_POLYLINE.
+   * @returns null if the segment index is out of range.
+   */
+  getRouteSegmentPoints(
+    segmentIndex: number,
+    pointOffset?: number,
+    pointLimit?: number,
+    geometryFormat?: GeometryFormat
+  ): Promise<RouteSegmentPoints | null>;
+
   /**
    *
    * @returns the current time and distance information.
@@ -309,6 +472,20 @@ export interface NavigationController {
    */
   getTraveledPath(): Promise<LatLng[]>;
 
+  /**
+   * Retrieves the points added to the traveled path since a previous call
+   * (Android only). Pass the returned nextCursor to the next call to only
+   * receive new points, together with the returned anchor as an option.
+   *
+   * @param cursor - nextCursor from the previous call, or 0 to start from the
+   * beginning of the path.
+   * @param options - Optional simplification and output format.
+   */
+  getTraveledPathSince(
+    cursor: number,
+    options?: TraveledPathOptions
+  ): Promise<TraveledPathUpdate>;
+
   /**
    * Asynchronously retrieves the version of the Navigation SDK.
    *
@@ -401,10 +578,35 @@ export interface NavigationController {
    */
   stopUpdatingLocation(): void;
 
+  /**
+   * Retrieves road-snapped locations recorded natively while location updates
+   * are running, oldest first (Android only).
+   *
+   * @param options - Restricts which recorded locations are returned.
+   * @returns A promise that resolves with the locations as parallel arrays.
+   */
+  getLocationHistory(options?: LocationHistoryOptions): Promise<LocationBatch>;
+
+  /**
+   * Clears the recorded location history (Android only).
+   */
+  clearLocationHistory(): void;
+
+  /**
+   * Sets how many road-snapped locations are recorded in the location
+   * history. Changing it discards the current history (Android only).
+   *
+   * @param capacity - Maximum number of locations kept. Defaults to 3600.
+   */
+  setLocationHistoryCapacity(capacity: number): void;
+
   /**
    * Allows the library to start tracking location and providing updates.
+   *
+   * @param options - Optional filters applied natively before location
+   * updates are sent to JavaScript (Android only).
    */
-  startUpdatingLocation(): void;
+  startUpdatingLocation(options?: LocationUpdateOptions): void;
 
   /**
    * Enables location updates when the application is on the background.
@@ -418,8 +620,49 @@ export interface NavigationController {
    * Enables or disables turn-by-turn logging.
    *
    * @param isEnabled - Determines whether the turn-by-turn logging should be enabled or disabled.
+   * @param options - Limits the size of each turn-by-turn update (Android only).
+   */
+  setTurnByTurnLoggingEnabled(
+    isEnabled: boolean,
+    options?: TurnByTurnLoggingOptions
+  ): void;
+
+  /**
+   * Retrieves a page of the remaining steps from the latest turn-by-turn
+   * update (Android only). Only steps within the preview window set with
+   * setTurnByTurnLoggingEnabled are available.
+   *
+   * @param offset - Index of the first step to return. Defaults to 0.
+   * @param count - Maximum number of steps to return. Defaults to all.
+   */
+  getRemainingSteps(offset?: number, count?: number): Promise<StepInfo[]>;
+
+  /**
+   * Sets how much the remaining time or distance must change before
+   * onRemainingTimeOrDistanceChanged is emitted (Android only).
+   *
+   * @param thresholds - Minimum change in seconds and meters.
+   */
+  setRemainingTimeOrDistanceChangedThresholds(
+    thresholds: RemainingTimeOrDistanceChangedThresholds
+  ): void;
+
+  /**
+   * Enables or disables delta encoding of turn-by-turn events (Android only).
+   * When enabled, full events are only sent when the route or the set of
+   * remaining steps changes; other events only carry changed fields.
+   *
+   * @param isEnabled - Determines whether delta updates are enabled.
+   */
+  setTurnByTurnDeltaUpdatesEnabled(isEnabled: boolean): void;
+
+  /**
+   * Configures batched delivery of navigation events to reduce bridge
+   * traffic during busy navigation sessions (Android only).
+   *
+   * @param options - Determines whether and how often events are batched.
    */
-  setTurnByTurnLoggingEnabled(isEnabled: boolean): void;
+  setEventBatchingOptions(options: EventBatchingOptions): void;
 
   /**
    * Simulator to be used in navigation.
@@ -437,8 +680,94 @@ export enum TaskRemovedBehavior {
   QUIT_SERVICE,
 }
 
+/**
+ * Options used when enabling turn-by-turn logging (Android only).
+ */
+export interface TurnByTurnLoggingOptions {
+  /**
+   * Number of upcoming steps included in each update. Defaults to all
+   * remaining steps.
+   */
+  previewStepCount?: number;
+  /** Whether maneuver images are generated for each step. Defaults to true. */
+  includeStepImages?: boolean;
+}
+
+/**
+ * A single step of the route, as delivered in turn-by-turn updates.
+ */
+export interface StepInfo {
+  distanceFromPrevStepMeters: number;
+  timeFromPrevStepSeconds: number;
+  drivingSide: number;
+  stepNumber: number;
+  maneuver: number;
+  roundaboutTurnNumber: number;
+  exitNumber?: string;
+  fullRoadName?: string;
+  instruction?: string;
+}
+
 /**
  * Defines the turn-by-turn event data.
  */
-// eslint-disable-next-line @typescript-eslint/no-empty-object-type
-export interface TurnByTurnEvent {}
+export interface TurnByTurnEvent {
+  /**
+   * Set when delta updates are enabled (Android only). If true, the event
+   * only contains the fields that changed since the previous event, and the
+   * remaining steps are omitted.
+   */
+  isDelta?: boolean;
+  /**
+   * Set on delta events and on their current step when fields no longer have
+   * a value. Lists the names of those fields, which should be removed from the
+   * state built from previous events.
+   */
+  removedFields?: string[];
+}
+
+/**
+ * Options for getTraveledPathSince (Android only).
+ */
+export interface TraveledPathOptions {
+  /**
+   * Points closer than this distance in meters to the simplified path are
+   * removed using the Douglas-Peucker algorithm. Defaults to 0 (no
+   * simplification).
+   */
+  toleranceMeters?: number;
+  /** Format of the returned points. Defaults to GeometryFormat.LAT_LNG. */
+  geometryFormat?: GeometryFormat;
+  /**
+   * Anchor returned with the cursor by the previous call. Used to detect that
+   * the path was rebuilt even if the new path is as long as the old one.
+   */
+  anchor?: LatLng;
+}
+
+/**
+ * Points added to the traveled path since a cursor (Android only). Only the
+ * field matching the requested GeometryFormat is set.
+ */
+export interface TraveledPathUpdate {
+  /** Cursor to pass to the next getTraveledPathSince call. */
+  nextCursor: number;
+  /**
+   * True if the traveled path was restarted (for example because a new route
+   * was set) and the points start from the beginning of the new path.
+   */
+  isReset: boolean;
+  /** Number of returned points. */
+  pointCount: number;
+  /**
+   * Last point of the traveled path, to pass as the anchor option of the next
+   * call. Not set if the path is empty.
+   */
+  anchor?: LatLng;
+  /** Set for GeometryFormat.LAT_LNG. */
+  points?: LatLng[];
+  /** Set for GeometryFormat.ENCODED_POLYLINE. */
+  encodedPolyline?: string;
+  /** Set for GeometryFormat.PACKED. */
+  packedLatLngs?: number[];
+}
@@ -16,11 +16,13 @@
 
 import { NativeModules, Platform } from 'react-native';
 import { useMemo } from 'react';
-import { useModuleListeners, type LatLng } from '../../shared';
+import { useModuleListeners, GeometryFormat, type LatLng } from '../../shared';
 import type {
   Waypoint,
   AudioGuidance,
   RouteSegment,
+  FormattedRouteSegment,
+  RouteSegmentPoints,
   TimeAndDistance,
 } from '../types';
 import {
@@ -30,6 +32,15 @@ import {
   type RoutingOptions,
   type SpeedAlertOptions,
   type LocationSimulationOptions,
+  type EventBatchingOptions,
+  type LocationUpdateOptions,
+  type LocationHistoryOptions,
+  type LocationBatch,
+  type TurnByTurnLoggingOptions,
+  type StepInfo,
+  type TraveledPathOptions,
+  type TraveledPathUpdate,
+  type RemainingTimeOrDistanceChangedThresholds,
   TaskRemovedBehavior,
   type DisplayOptions,
 } from './types';
@@ -37,6 +48,17 @@ import { getRouteStatusFromStringValue } from '../navigationView';
 
 const { NavModule } = NativeModules;
 
+/**
+ * Adds the point count to a segment from a platform that has no
+ * WithFormat variants. Its geometry is always a LatLng array.
+ */
+const toFormattedRouteSegment = (
+  segment: RouteSegment
+): FormattedRouteSegment => ({
+  ...segment,
+  pointCount: segment.segmentLatLngList.length,
+});
+
 export const useNavigationController = (
   termsAndConditionsDialogOptions: TermsAndConditionsDialogOptions,
   taskRemovedBehavior: TaskRemovedBehavior = TaskRemovedBehavior.CONTINUE_SERVICE
@@ -62,6 +84,7 @@ export const useNavigationController = (
       'onStartGuidance',
       'onArrival',
       'onLocationChanged',
+      'onLocationBatch',
       'onNavigationReady',
       'onRouteStatusResult',
       'onRawLocationChanged',
@@ -73,7 +96,8 @@ export const useNavigationController = (
       'onTurnByTurn',
       'logDebugInfo',
     ],
-    eventTransformer
+    eventTransformer,
+    'onNavigationEventBatch'
   );
 
   const navigationController: NavigationController = useMemo(
@@ -148,8 +172,51 @@ export const useNavigationController = (
         }
       },
 
-      setTurnByTurnLoggingEnabled: (isEnabled: boolean) => {
-        NavModule.setTurnByTurnLoggingEnabled(isEnabled);
+      setTurnByTurnLoggingEnabled: (
+        isEnabled: boolean,
+        options?: TurnByTurnLoggingOptions
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setTurnByTurnLoggingEnabled(isEnabled, options ?? null);
+        } else {
+          NavModule.setTurnByTurnLoggingEnabled(isEnabled);
+        }
+      },
+
+      getRemainingSteps: async (
+        offset: number = 0,
+        count: number = 0
+      ): Promise<StepInfo[]> => {
+        if (Platform.OS !== 'android') {
+          return [];
+        }
+        return await NavModule.getRemainingSteps(offset, count);
+      },
+
+      setTurnByTurnDeltaUpdatesEnabled: (isEnabled: boolean) => {
+        if (Platform.OS === 'android') {
+          NavModule.setTurnByTurnDeltaUpdatesEnabled(isEnabled);
+        }
+      },
+
+      setRemainingTimeOrDistanceChangedThresholds: (
+        thresholds: RemainingTimeOrDistanceChangedThresholds
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setRemainingTimeOrDistanceChangedThresholds(
+            thresholds.seconds ?? 0,
+            thresholds.meters ?? 0
+          );
+        }
+      },
+
+      setEventBatchingOptions: (options: EventBatchingOptions) => {
+        if (Platform.OS === 'android') {
+          NavModule.setEventBatchingEnabled(
+            options.enabled,
+            options.flushIntervalMs ?? 0
+          );
+        }
       },
 
       areTermsAccepted: async (): Promise<boolean> => {
@@ -164,6 +231,44 @@ export const useNavigationController = (
         return await NavModule.getRouteSegments();
       },
 
+      getCurrentRouteSegmentWithFormat: async (
+        geometryFormat: GeometryFormat
+      ): Promise<FormattedRouteSegment | null> => {
+        if (Platform.OS !== 'android') {
+          const segment: RouteSegment | null =
+            await NavModule.getCurrentRouteSegment();
+          return segment == null ? null : toFormattedRouteSegment(segment);
+        }
+        return await NavModule.getCurrentRouteSegmentWithFormat(geometryFormat);
+      },
+
+      getRouteSegmentsWithFormat: async (
+        geometryFormat: GeometryFormat
+      ): Promise<FormattedRouteSegment[]> => {
+        if (Platform.OS !== 'android') {
+          const segments: RouteSegment[] = await NavModule.getRouteSegments();
+          return segments.map(toFormattedRouteSegment);
+        }
+        return await NavModule.getRouteSegmentsWithFormat(geometryFormat);
+      },
+
+      getRouteSegmentPoints: async (
+        segmentIndex: number,
+        pointOffset: number = 0,
+        pointLimit: number = 0,
+        geometryFormat: GeometryFormat = GeometryFormat.ENCODED_POLYLINE
+      ): Promise<RouteSegmentPoints | null> => {
+        if (Platform.OS !== 'android') {
+          return null;
+        }
+        return await NavModule.getRouteSegmentPoints(
+          segmentIndex,
+          pointOffset,
+          pointLimit,
+          geometryFormat
+        );
+      },
+
       getCurrentTimeAndDistance: async (): Promise<TimeAndDistance> => {
         return await NavModule.getCurrentTimeAndDistance();
       },
@@ -172,16 +277,78 @@ export const useNavigationController = (
         return await NavModule.getTraveledPath();
       },
 
+      getTraveledPathSince: async (
+        cursor: number,
+        options?: TraveledPathOptions
+      ): Promise<TraveledPathUpdate> => {
+        if (Platform.OS !== 'android') {
+          const points: LatLng[] = await NavModule.getTraveledPath();
+          const anchor = options?.anchor;
+          const previous = cursor > 0 ? points[cursor - 1] : undefined;
+          const isReset =
+            cursor < 0 ||
+            cursor > points.length ||
+            (anchor != null &&
+              previous != null &&
+              (previous.lat !== anchor.lat || previous.lng !== anchor.lng));
+          const newPoints = points.slice(isReset ? 0 : cursor);
+          return {
+            nextCursor: points.length,
+            isReset,
+            pointCount: newPoints.length,
+            anchor: points[points.length - 1],
+            points: newPoints,
+          };
+        }
+        return await NavModule.getTraveledPathSince(cursor, options ?? null);
+      },
+
       getNavSDKVersion: async (): Promise<string> => {
         return await NavModule.getNavSDKVersion();
       },
 
+      getLocationHistory: async (
+        options: LocationHistoryOptions = {}
+      ): Promise<LocationBatch> => {
+        if (Platform.OS !== 'android') {
+          return {
+            lat: [],
+            lng: [],
+            time: [],
+            speed: [],
+            bearing: [],
+            accuracy: [],
+          };
+        }
+        return await NavModule.getLocationHistory(
+          options.sinceTimestamp ?? 0,
+          options.maxPoints ?? 0,
+          options.decimation ?? 1
+        );
+      },
+
+      clearLocationHistory: () => {
+        if (Platform.OS === 'android') {
+          NavModule.clearLocationHistory();
+        }
+      },
+
+      setLocationHistoryCapacity: (capacity: number) => {
+        if (Platform.OS === 'android') {
+          NavModule.setLocationHistoryCapacity(capacity);
+        }
+      },
+
       stopUpdatingLocation: () => {
         NavModule.stopUpdatingLocation();
       },
 
-      startUpdatingLocation: () => {
-        NavModule.startUpdatingLocation();
+      startUpdatingLocation: (options?: LocationUpdateOptions) => {
+        if (Platform.OS === 'android') {
+          NavModule.startUpdatingLocation(options ?? null);
+        } else {
+          NavModule.startUpdatingLocation();
+        }
       },
 
       simulator: {
@@ -25,6 +25,7 @@ import {
   type Circle,
   type GroundOverlay,
   type Marker,
+  type MarkerCluster,
   type Polygon,
   type Polyline,
 } from '../../maps';
@@ -89,6 +90,13 @@ export const NavigationView = (
     [props.mapViewCallbacks]
   );
 
+  const onClusterClick = useCallback(
+    ({ nativeEvent: cluster }: { nativeEvent: MarkerCluster }) => {
+      props.mapViewCallbacks?.onClusterClick?.(cluster);
+    },
+    [props.mapViewCallbacks]
+  );
+
   const onPolylineClick = useCallback(
     ({ nativeEvent: polyline }: { nativeEvent: Polyline }) => {
       props.mapViewCallbacks?.onPolylineClick?.(polyline);
@@ -149,6 +157,7 @@ export const NavigationView = (
         onMapClick={onMapClick}
         onMapReady={onMapReady}
         onMarkerClick={onMarkerClick}
+        onClusterClick={onClusterClick}
         onPolylineClick={onPolylineClick}
         onPolygonClick={onPolygonClick}
         onCircleClick={onCircleClick}
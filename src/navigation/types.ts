@@ -295,6 +295,41 @@ export interface RouteSegment {
   segmentLatLngList: LatLng[];
 }
 
+/**
+ * A RouteSegment whose geometry was requested in a specific GeometryFormat
+ * (Android only). Only the field matching the requested format is set.
+ */
+export interface FormattedRouteSegment
+  extends Omit<RouteSegment, 'segmentLatLngList'> {
+  /** Number of points in the route segment. */
+  pointCount: number;
+  /** Set for GeometryFormat.LAT_LNG. */
+  segmentLatLngList?: LatLng[];
+  /** Set for GeometryFormat.ENCODED_POLYLINE. */
+  encodedPolyline?: string;
+  /** Set for GeometryFormat.PACKED. */
+  packedLatLngs?: number[];
+}
+
+/**
+ * A page of the points of a single route segment (Android only). Only the
+ * field matching the requested GeometryFormat is set.
+ */
+export interface RouteSegmentPoints {
+  /** Number of points in the whole route segment. */
+  totalPoints: number;
+  /** Index of the first returned point within the route segment. */
+  pointOffset: number;
+  /** Number of returned points. */
+  pointCount: number;
+  /** Set for GeometryFormat.LAT_LNG. */
+  points?: LatLng[];
+  /** Set for GeometryFormat.ENCODED_POLYLINE. */
+  encodedPolyline?: string;
+  /** Set for GeometryFormat.PACKED. */
+  packedLatLngs?: number[];
+}
+
 /**
  * Used to specify navigation destinations. It may be constructed from
  * a latitude/longitude pair, or a Google Place ID.
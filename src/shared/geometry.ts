@@ -0,0 +1,111 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import { Platform } from 'react-native';
+import type { PolygonOptions, PolylineOptions } from '../maps/mapView/types';
+import type { CompactLatLngs, LatLng } from './types';
+
+/**
+ * Decodes a string in the Google encoded polyline format.
+ */
+export const decodePolyline = (encoded: string): LatLng[] => {
+  const points: LatLng[] = [];
+  let index = 0;
+  let lat = 0;
+  let lng = 0;
+
+  const decodeValue = (): number => {
+    let result = 0;
+    let shift = 0;
+    let b: number;
+    do {
+      if (index >= encoded.length) {
+        throw new Error('Invalid encoded polyline');
+      }
+      b = encoded.charCodeAt(index++) - 63;
+      result += (b & 0x1f) * Math.pow(2, shift);
+      shift += 5;
+    } while (b >= 0x20);
+    return result % 2 === 1 ? -(result + 1) / 2 : result / 2;
+  };
+
+  while (index < encoded.length) {
+    lat += decodeValue();
+    lng += decodeValue();
+    points.push({ lat: lat / 1e5, lng: lng / 1e5 });
+  }
+
+  return points;
+};
+
+/**
+ * Converts points in a compact format to an array of LatLng.
+ */
+export const toLatLngArray = (points: CompactLatLngs): LatLng[] => {
+  if (typeof points === 'string') {
+    return decodePolyline(points);
+  }
+  const latLngs: LatLng[] = [];
+  for (let i = 0; i + 1 < points.length; i += 2) {
+    latLngs.push({ lat: points[i]!, lng: points[i + 1]! });
+  }
+  return latLngs;
+};
+
+/**
+ * Returns the points to send to the native module, preferring the compact
+ * points if they are set. Android decodes the compact formats natively, other
+ * platforms get an array of LatLng.
+ */
+const getNativePoints = (
+  points?: LatLng[],
+  compactPoints?: CompactLatLngs
+): LatLng[] | CompactLatLngs => {
+  if (compactPoints != null) {
+    return Platform.OS === 'android'
+      ? compactPoints
+      : toLatLngArray(compactPoints);
+  }
+  return points ?? [];
+};
+
+/**
+ * Returns polyline options for the native module, where the points field
+ * holds either the points or the compact points.
+ */
+export const toNativePolylineOptions = (options: PolylineOptions) => {
+  const { compactPoints, ...nativeOptions } = options;
+  return {
+    ...nativeOptions,
+    points: getNativePoints(options.points, compactPoints),
+  };
+};
+
+/**
+ * Returns polygon options for the native module, where the points and holes
+ * fields hold either the LatLng or the compact variants.
+ */
+export const toNativePolygonOptions = (options: PolygonOptions) => {
+  const { compactPoints, compactHoles, ...nativeOptions } = options;
+  return {
+    ...nativeOptions,
+    points: getNativePoints(options.points, compactPoints),
+    holes:
+      compactHoles != null
+        ? compactHoles.map(hole => getNativePoints(undefined, hole))
+        : (options.holes ?? []),
+  };
+};
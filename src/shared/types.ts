@@ -24,6 +24,28 @@ export interface LatLng {
   lng: number;
 }
 
+/**
+ * A list of coordinates given either as a flat [lat, lng, lat, lng, ...]
+ * number array or a Google encoded polyline string. Decoded natively on
+ * Android.
+ */
+export type CompactLatLngs = number[] | string;
+
+/**
+ * Serialization format for lists of coordinates returned by native code
+ * (Android only).
+ */
+export enum GeometryFormat {
+  /** Array of LatLng objects. */
+  LAT_LNG = 0,
+  /** Google encoded polyline string. */
+  ENCODED_POLYLINE,
+  /** Flat [lat, lng, lat, lng, ...] number array. */
+  PACKED,
+  /** Geometry is omitted. */
+  NONE,
+}
+
 /**
  * An immutable class representing the device location in Navigation SDK.
  */
@@ -25,8 +25,16 @@ type ListenerMap<T> = {
   [K in keyof T]?: NonNullable<T[K]>[];
 };
 
+interface BatchedEvent {
+  name: string;
+  data?: unknown;
+}
+
 // A hook to manage event listeners for a specific Native Module,
 // using the cross-platform NativeEventEmitter.
+//
+// If batchEventType is given, events delivered natively as a single batch
+// ({ name, data }[]) are unpacked and dispatched to the regular listeners.
 export const useModuleListeners = <
   // eslint-disable-next-line @typescript-eslint/no-explicit-any
   T extends { [K in keyof T]: ((...args: any[]) => void) | undefined },
@@ -36,7 +44,8 @@ export const useModuleListeners = <
   eventTransformer?: <K extends keyof T>(
     eventKey: K,
     ...args: unknown[]
-  ) => unknown[]
+  ) => unknown[],
+  batchEventType?: string
 ): {
   addListeners: (listeners: Partial<T>) => void;
   removeListeners: (listeners: Partial<T>) => void;
@@ -66,7 +75,10 @@ export const useModuleListeners = <
       const name = String(eventType);
       getEventEmitter().removeAllListeners(name);
     });
-  }, [eventTypes, getEventEmitter]);
+    if (batchEventType) {
+      getEventEmitter().removeAllListeners(batchEventType);
+    }
+  }, [eventTypes, batchEventType, getEventEmitter]);
 
   const updateListeners = useCallback(() => {
     // Wrap listeners to multiplex events to all registered callbacks.
@@ -98,8 +110,21 @@ export const useModuleListeners = <
       const sub = getEventEmitter().addListener(name, handler);
       subsRef.current[name] = sub;
     });
+
+    if (batchEventType) {
+      const batchHandler = (batch: BatchedEvent[]) => {
+        batch.forEach(({ name, data }) => {
+          wrappedListeners[name as keyof T]?.(data);
+        });
+      };
+      subsRef.current[batchEventType] = getEventEmitter().addListener(
+        batchEventType,
+        batchHandler
+      );
+    }
   }, [
     eventTypes,
+    batchEventType,
     eventTransformer,
     getEventEmitter,
     removeAllNativeSubscriptions,
@@ -22,7 +22,14 @@ import {
   type ViewProps,
 } from 'react-native';
 import type { LatLng } from '.';
-import type { Circle, GroundOverlay, Marker, Polygon, Polyline } from '../maps';
+import type {
+  Circle,
+  GroundOverlay,
+  Marker,
+  MarkerCluster,
+  Polygon,
+  Polyline,
+} from '../maps';
 import type {
   DirectEventHandler,
   Int32,
@@ -32,18 +39,26 @@ import type {
 export const viewManagerName =
   Platform.OS === 'android' ? 'NavViewManager' : 'RCTNavView';
 
-export const sendCommand = (
+interface ViewManagerConfig {
+  Commands: { [key: string]: number };
+}
+
+export const commands = (
+  UIManager.getViewManagerConfig(viewManagerName) as ViewManagerConfig
+).Commands;
+
+// eslint-disable-next-line @typescript-eslint/no-explicit-any
+type PendingCommand = [command: number, args: any[]];
+
+/** Commands waiting to be sent in one batch, keyed by view id. */
+const pendingCommands = new Map<number, PendingCommand[]>();
+
+const dispatchCommand = (
   viewId: number,
-  command: number | undefined,
+  command: number,
   // eslint-disable-next-line @typescript-eslint/no-explicit-any
   args?: any[]
 ): void => {
-  if (command === undefined) {
-    throw new Error(
-      "Command not found, please make sure you're using the referencing the right method"
-    );
-  }
-
   try {
     UIManager.dispatchViewManagerCommand(
       viewId,
@@ -56,13 +71,96 @@ export const sendCommand = (
   }
 };
 
-interface ViewManagerConfig {
-  Commands: { [key: string]: number };
-}
+const dispatchBatch = (viewId: number, batch: PendingCommand[]): void => {
+  const [first] = batch;
+  if (batch.length === 1 && first !== undefined) {
+    dispatchCommand(viewId, first[0], first[1]);
+  } else {
+    dispatchCommand(viewId, commands.batch as number, [batch]);
+  }
+};
 
-export const commands = (
-  UIManager.getViewManagerConfig(viewManagerName) as ViewManagerConfig
-).Commands;
+const flushPendingCommands = (): void => {
+  const batches = Array.from(pendingCommands.entries());
+  pendingCommands.clear();
+  for (const [viewId, batch] of batches) {
+    dispatchBatch(viewId, batch);
+  }
+};
+
+/**
+ * Sends the commands collected for a view right away instead of at the end of
+ * the JS task.
+ */
+export const flushCommands = (viewId: number): void => {
+  const batch = pendingCommands.get(viewId);
+  if (batch === undefined) {
+    return;
+  }
+  pendingCommands.delete(viewId);
+  dispatchBatch(viewId, batch);
+};
+
+/**
+ * Wraps a native module whose methods act on a view, so that each call first
+ * sends the commands collected for the view. Without this, a module call made
+ * in the same JS task as a command would be sent to native code before the
+ * command. As with unbatched commands, the order in which native code runs
+ * commands and module calls that were sent together is not guaranteed.
+ */
+export const withFlushedCommands = <T extends object>(
+  viewId: number,
+  nativeModule: T
+): T => {
+  return new Proxy(nativeModule, {
+    get: (target, property, receiver) => {
+      const value = Reflect.get(target, property, receiver);
+      if (typeof value !== 'function') {
+        return value;
+      }
+      // eslint-disable-next-line @typescript-eslint/no-explicit-any
+      return (...args: any[]) => {
+        flushCommands(viewId);
+        return value.apply(target, args);
+      };
+    },
+  });
+};
+
+/**
+ * Sends a command to a view. On Android, commands sent to a view in the same
+ * JS task are collected and sent as one batch, which the view runs in a
+ * single pass. Native module calls for the view must go through
+ * withFlushedCommands to keep their order with the commands.
+ */
+export const sendCommand = (
+  viewId: number,
+  command: number | undefined,
+  // eslint-disable-next-line @typescript-eslint/no-explicit-any
+  args?: any[]
+): void => {
+  if (command === undefined) {
+    throw new Error(
+      "Command not found, please make sure you're using the referencing the right method"
+    );
+  }
+
+  if (Platform.OS !== 'android' || commands.batch === undefined) {
+    dispatchCommand(viewId, command, args);
+    return;
+  }
+
+  const batch = pendingCommands.get(viewId);
+  if (batch !== undefined) {
+    batch.push([command, args ?? []]);
+    return;
+  }
+
+  pendingCommands.set(viewId, [[command, args ?? []]]);
+  if (pendingCommands.size === 1) {
+    Promise.resolve().then(flushPendingCommands);
+  }
+};
 
 export interface NativeNavViewProps extends ViewProps {
   flex?: number | undefined;
@@ -71,6 +169,7 @@ export interface NativeNavViewProps extends ViewProps {
   onMapReady?: DirectEventHandler<null>;
   onMapClick?: DirectEventHandler<LatLng>;
   onMarkerClick?: DirectEventHandler<Marker>;
+  onClusterClick?: DirectEventHandler<MarkerCluster>;
   onPolylineClick?: DirectEventHandler<Polyline>;
   onPolygonClick?: DirectEventHandler<Polygon>;
   onCircleClick?: DirectEventHandler<Circle>;